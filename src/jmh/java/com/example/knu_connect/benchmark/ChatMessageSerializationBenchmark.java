@@ -0,0 +1,75 @@
+package com.example.knu_connect.benchmark;
+
+import com.example.knu_connect.domain.chat.dto.response.ChatMessageResponseDto;
+import com.example.knu_connect.domain.chat.entitiy.ChatMessage;
+import com.example.knu_connect.domain.chat.entitiy.ChatRoom;
+import com.example.knu_connect.domain.user.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 채팅 메시지 응답 변환 비용 (메시지 전송 시 브로드캐스트, 메시지 목록 조회)
+// - from: 엔티티 → DTO 변환만
+// - serializeOne: 변환 + JSON 직렬화 (STOMP 브로드캐스트 1건)
+// - serializePage: 메시지 목록 한 페이지(50건) 변환 + 직렬화
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatMessageSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    // 애플리케이션과 같은 설정 (날짜를 ISO 문자열로 직렬화)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Param({"20", "1000"})
+    private int contentLength;
+
+    private ChatMessage message;
+    private List<ChatMessage> page;
+
+    @Setup
+    public void setUp() {
+        User sender = User.builder().name("홍길동").email("bench@knu.ac.kr").build();
+        ReflectionTestUtils.setField(sender, "id", 1L);
+        ChatRoom chatRoom = ChatRoom.create();
+
+        String content = "안녕하세요 ".repeat(contentLength / 6 + 1).substring(0, contentLength);
+        page = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> newMessage(sender, chatRoom, content, i))
+                .toList();
+        message = page.get(0);
+    }
+
+    private static ChatMessage newMessage(User sender, ChatRoom chatRoom, String content, long id) {
+        ChatMessage message = ChatMessage.builder().user(sender).chatRoom(chatRoom).contents(content).build();
+        ReflectionTestUtils.setField(message, "id", id);
+        ReflectionTestUtils.setField(message, "createdAt", LocalDateTime.of(2025, 1, 1, 12, 0).plusSeconds(id));
+        return message;
+    }
+
+    @Benchmark
+    public ChatMessageResponseDto from() {
+        return ChatMessageResponseDto.from(message);
+    }
+
+    @Benchmark
+    public String serializeOne() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(ChatMessageResponseDto.from(message));
+    }
+
+    @Benchmark
+    public String serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(page.stream().map(ChatMessageResponseDto::from).toList());
+    }
+}
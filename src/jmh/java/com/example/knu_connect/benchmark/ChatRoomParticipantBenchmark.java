@@ -0,0 +1,53 @@
+package com.example.knu_connect.benchmark;
+
+import com.example.knu_connect.domain.chat.entitiy.ChatParticipants;
+import com.example.knu_connect.domain.chat.entitiy.ChatRoom;
+import com.example.knu_connect.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 채팅방 참여자 확인 비용 (메시지 전송/조회마다 호출)
+// - 참여자 목록을 순회하므로 참여자 수에 비례
+// - lastParticipant: 목록 마지막 참여자 (최악의 경우), nonParticipant: 참여하지 않은 사용자 (전체 순회)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatRoomParticipantBenchmark {
+
+    @Param({"2", "100", "1000"})
+    private int participantCount;
+
+    private ChatRoom chatRoom;
+    private Long lastUserId;
+    private Long otherUserId;
+
+    @Setup
+    public void setUp() {
+        chatRoom = ChatRoom.create();
+        for (long userId = 1; userId <= participantCount; userId++) {
+            User user = User.builder().name("user" + userId).email("user" + userId + "@knu.ac.kr").build();
+            ReflectionTestUtils.setField(user, "id", userId);
+            chatRoom.addParticipant(ChatParticipants.builder().user(user).chatRoom(chatRoom).lastReadMessageId(0L).build());
+        }
+        lastUserId = (long) participantCount;
+        otherUserId = participantCount + 1L;
+    }
+
+    @Benchmark
+    public boolean lastParticipant() {
+        return chatRoom.hasParticipant(lastUserId);
+    }
+
+    @Benchmark
+    public boolean nonParticipant() {
+        return chatRoom.hasParticipant(otherUserId);
+    }
+
+    @Benchmark
+    public List<Long> otherParticipantIds() {
+        return chatRoom.getOtherParticipantIds(lastUserId);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.knu_connect.benchmark;
+
+import com.example.knu_connect.global.auth.jwt.JwtAuthenticationFilter;
+import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenBlacklistFilter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 인증 필터 전체 처리 비용 (요청 1건 기준)
+// - authenticated: 토큰 검증(캐시 적중) + 블랙리스트 Bloom filter 확인 + SecurityContext 설정
+// - firstSeenToken: 검증 캐시에 없는 토큰 (매번 HMAC 검증과 claim 파싱)
+// - invalidToken: 위조 토큰 거부 후 에러 응답 JSON 작성
+// 블랙리스트 필터는 빈 Redis로 한 번 적재해 두어 Redis 조회 없이 통과 (운영 환경의 일반적인 요청)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET =
+            Base64.getEncoder().encodeToString("benchmarkSecretKeybenchmarkSecretKey".getBytes());
+    private static final String URI = "/api/chat-rooms";
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private String forgedToken;
+    private String[] freshTokens;
+    private int freshIndex;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        Cursor<String> emptyCursor = mock(Cursor.class);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(emptyCursor);
+
+        TokenBlacklistFilter blacklistFilter =
+                new TokenBlacklistFilter(redisTemplate, new RedisMessageListenerContainer(), 100_000, 0.01);
+        blacklistFilter.rebuild();
+
+        jwtUtil = new JwtUtil(SECRET, 1800, 604800, 300, 10_000);
+        // 사용자 ID가 담긴 토큰은 인증 주체 캐시를 거치지 않음
+        filter = new JwtAuthenticationFilter(jwtUtil, null, blacklistFilter);
+        token = jwtUtil.createAccessToken(1L, "bench@knu.ac.kr", false);
+        forgedToken = token.substring(0, token.length() - 2) + "xx";
+
+        // 캐시 미적중 측정용 토큰 (검증 캐시 크기보다 많이 만들어 순환)
+        freshTokens = new String[20_000];
+        for (int i = 0; i < freshTokens.length; i++) {
+            freshTokens[i] = jwtUtil.createAccessToken((long) i, "bench" + i + "@knu.ac.kr", false);
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticated() throws Exception {
+        return doFilter(token);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse firstSeenToken() throws Exception {
+        String fresh = freshTokens[freshIndex];
+        freshIndex = (freshIndex + 1) % freshTokens.length;
+        return doFilter(fresh);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse invalidToken() throws Exception {
+        return doFilter(forgedToken);
+    }
+
+    private MockHttpServletResponse doFilter(String accessToken) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URI);
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+}
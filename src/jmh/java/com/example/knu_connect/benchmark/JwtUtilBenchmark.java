@@ -0,0 +1,66 @@
+package com.example.knu_connect.benchmark;
+
+import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 생성/검증 비용 비교
+// - createAccessToken, createRefreshToken: 로그인/재발급 시 토큰 서명 비용
+// - parserPerCall: 기존 방식 (호출마다 파서 생성 후 검증)
+// - prebuiltParser: 미리 만든 파서로 매번 검증 (캐시 사용 안 함)
+// - verifiedCache: 최근 검증한 토큰 캐시 적중 (같은 클라이언트의 반복 요청)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET =
+            Base64.getEncoder().encodeToString("benchmarkSecretKeybenchmarkSecretKey".getBytes());
+
+    private JwtUtil jwtUtil;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 1800, 604800, 300, 10_000);
+        secretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        token = jwtUtil.createAccessToken(1L, "bench@knu.ac.kr", false);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(1L, "bench@knu.ac.kr", false);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtUtil.createJwt("bench@knu.ac.kr", 604800, JwtUtil.REFRESH_TOKEN_TYPE);
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims prebuiltParser() {
+        return jwtUtil.getClaims(token);
+    }
+
+    @Benchmark
+    public TokenClaims verifiedCache() {
+        return jwtUtil.parse(token);
+    }
+}
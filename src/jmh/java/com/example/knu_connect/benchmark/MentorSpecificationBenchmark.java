@@ -0,0 +1,77 @@
+package com.example.knu_connect.benchmark;
+
+import com.example.knu_connect.domain.mentor.specification.MentorSpecification;
+import com.example.knu_connect.domain.user.entity.User;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+// 멘토 검색 조건(Specification) 생성 비용 (멘토 목록 조회마다 실행)
+// - compose: 조건 4개를 allOf로 조합
+// - toPredicate: 조합한 조건으로 Criteria 조건식 생성 (조회 SQL 생성 직전 단계)
+// 조건이 모두 비어 있는 경우(전체 조회)와 모두 채워진 경우(필터 + 키워드 검색)를 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MentorSpecificationBenchmark {
+
+    @Param({"empty", "full"})
+    private String filter;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private String career;
+    private String interest;
+    private String keyword;
+
+    @Setup
+    public void setUp() {
+        // Spring 컨텍스트 없이 User 엔티티만 등록한 Hibernate (인메모리 H2, 스키마 생성 안 함)
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:mentor-spec-bench")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+
+        if ("full".equals(filter)) {
+            career = "employment";
+            interest = "backend";
+            keyword = "스프링";
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Specification<User> compose() {
+        return newSpecification();
+    }
+
+    @Benchmark
+    public Predicate toPredicate() {
+        CriteriaQuery<User> query = criteriaBuilder.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+        return newSpecification().toPredicate(root, query, criteriaBuilder);
+    }
+
+    // MentorService.getMentorList와 같은 조합
+    private Specification<User> newSpecification() {
+        return Specification.allOf(
+                MentorSpecification.isMentor(),
+                MentorSpecification.hasCareer(career),
+                MentorSpecification.hasInterest(interest),
+                MentorSpecification.containsKeyword(keyword)
+        );
+    }
+}
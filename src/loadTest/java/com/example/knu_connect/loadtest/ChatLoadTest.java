@@ -0,0 +1,258 @@
+package com.example.knu_connect.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 채팅 서비스 전체 흐름 부하 테스트 (H2 + 내장 Redis로 애플리케이션 실행)
+// 1. 사용자 로그인, 두 명씩 1:1 채팅방 생성, 일부 사용자가 네트워킹 게시글 작성
+// 2. 모든 사용자가 /ws로 STOMP 연결 후 채팅방 구독 및 열기
+// 3. 구간별 단독 측정: 메시지 전송(/app/chat-rooms/{id}/chats), 채팅방 목록 조회, 네트워킹 목록 조회
+// 4. 메시지 전송과 목록 조회를 동시에 실행하여 혼합 부하 측정
+// 메시지 전송 지연 시간은 SEND부터 자신이 구독한 토픽으로 같은 메시지를 받을 때까지 (저장 + 커밋 후 브로드캐스트)
+// 요청당 쿼리 수는 단독 측정 구간의 Hibernate 통계로 계산 (혼합 구간은 엔드포인트별로 나눌 수 없어 생략)
+// 실행: gradle loadTest --tests '*ChatLoadTest' -Dloadtest.users=200 -Dloadtest.messages-per-user=50
+class ChatLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 100) / 2 * 2;  // 두 명씩 채팅방을 만들도록 짝수
+    private static final int MESSAGES_PER_USER = Integer.getInteger("loadtest.messages-per-user", 20);
+    private static final int POLLS_PER_USER = Integer.getInteger("loadtest.polls-per-user", 20);
+    private static final int NETWORKING_POSTS = 30;
+    private static final long ECHO_TIMEOUT_SECONDS = 10;
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @Test
+    void 채팅_서비스_부하_시나리오() throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        try (LoadTestApp app = LoadTestApp.start(redisPort);
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             LoadTestClient client = new LoadTestClient(app.baseUrl(), clients)) {
+            List<Long> userIds = app.seedUsers(USERS);
+            Statistics statistics = app.statistics();
+            List<LatencyRecorder> report = new ArrayList<>();
+
+            // 로그인
+            String[] tokens = new String[USERS];
+            report.add(measure(statistics, "POST /api/auth/login", recorder ->
+                    parallel(clients, USERS, i -> tokens[i] = client.login(LoadTestApp.email(i), recorder))));
+
+            // 짝수 번호 사용자가 다음 번호 사용자와 채팅방 생성
+            Long[] chatRoomIds = new Long[USERS];
+            report.add(measure(statistics, "POST /api/chat-rooms", recorder ->
+                    parallel(clients, USERS / 2, pair -> {
+                        JsonNode response = client.post("/api/chat-rooms", tokens[pair * 2],
+                                Map.of("participant_id", userIds.get(pair * 2 + 1)), recorder);
+                        chatRoomIds[pair * 2] = chatRoomIds[pair * 2 + 1] = response.path("chat_room_id").asLong();
+                    })));
+
+            report.add(measure(statistics, "POST /api/networking", recorder ->
+                    parallel(clients, Math.min(NETWORKING_POSTS, USERS), i ->
+                            client.post("/api/networking", tokens[i], Map.of(
+                                    "title", "스터디 모집 " + i,
+                                    "contents", "부하 테스트용 네트워킹 게시글입니다.",
+                                    "maxNumber", 5), recorder))));
+
+            // STOMP 연결 후 자신의 채팅방 구독 및 열기
+            ChatUser[] chatUsers = new ChatUser[USERS];
+            report.add(measure(statistics, "STOMP CONNECT /ws + open", recorder ->
+                    parallel(clients, USERS, i ->
+                            chatUsers[i] = ChatUser.connect(stompClient, app.baseUrl(), tokens[i], chatRoomIds[i], recorder))));
+
+            try {
+                // 구간별 단독 측정
+                report.add(measure(statistics, "SEND /app/chat-rooms/{id}/chats", recorder ->
+                        parallel(clients, USERS, i -> chatUsers[i].sendMessages("solo-" + i, MESSAGES_PER_USER, recorder))));
+                report.add(measure(statistics, "GET /api/chat-rooms", recorder ->
+                        parallel(clients, USERS, i -> poll(client, "/api/chat-rooms", tokens[i], recorder))));
+                report.add(measure(statistics, "GET /api/networking", recorder ->
+                        parallel(clients, USERS, i -> poll(client, "/api/networking?page=0&size=10", tokens[i], recorder))));
+
+                // 혼합 부하: 절반은 메시지 전송, 절반은 목록 조회
+                LatencyRecorder mixedSend = new LatencyRecorder("mixed SEND /app/chat-rooms/{id}/chats");
+                LatencyRecorder mixedChatRooms = new LatencyRecorder("mixed GET /api/chat-rooms");
+                LatencyRecorder mixedNetworking = new LatencyRecorder("mixed GET /api/networking");
+                List.of(mixedSend, mixedChatRooms, mixedNetworking).forEach(LatencyRecorder::start);
+                parallel(clients, USERS, i -> {
+                    if (i % 2 == 0) {
+                        chatUsers[i].sendMessages("mixed-" + i, MESSAGES_PER_USER, mixedSend);
+                    } else if (i % 4 == 1) {
+                        poll(client, "/api/chat-rooms", tokens[i], mixedChatRooms);
+                    } else {
+                        poll(client, "/api/networking?page=0&size=10", tokens[i], mixedNetworking);
+                    }
+                });
+                List.of(mixedSend, mixedChatRooms, mixedNetworking).forEach(LatencyRecorder::finish);
+                report.addAll(List.of(mixedSend, mixedChatRooms, mixedNetworking));
+            } finally {
+                for (ChatUser chatUser : chatUsers) {
+                    if (chatUser != null) {
+                        chatUser.disconnect();
+                    }
+                }
+            }
+
+            System.out.printf("%n=== Chat load test (users=%d, messages/user=%d, polls/user=%d) ===%n",
+                    USERS, MESSAGES_PER_USER, POLLS_PER_USER);
+            report.forEach(recorder -> System.out.println(recorder.summary()));
+            report.forEach(recorder -> assertThat(recorder.errors()).as(recorder.summary()).isZero());
+        }
+    }
+
+    // 구간 실행 시간과 실행된 SQL 수 측정
+    private LatencyRecorder measure(Statistics statistics, String name, Phase phase) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder(name);
+        statistics.clear();
+        recorder.start();
+        phase.run(recorder);
+        recorder.finish();
+        recorder.statements(statistics.getPrepareStatementCount());
+        return recorder;
+    }
+
+    private void poll(LoadTestClient client, String path, String token, LatencyRecorder recorder) throws Exception {
+        for (int i = 0; i < POLLS_PER_USER; i++) {
+            client.get(path, token, recorder);
+        }
+    }
+
+    // 사용자 수만큼 동시에 실행하고 모두 끝날 때까지 대기
+    private void parallel(ExecutorService clients, int count, UserTask task) throws Exception {
+        List<Future<Object>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            futures.add(clients.submit(() -> {
+                task.run(index);
+                return null;
+            }));
+        }
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Phase {
+        void run(LatencyRecorder recorder) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface UserTask {
+        void run(int index) throws Exception;
+    }
+
+    // STOMP로 연결된 채팅 사용자 (자신이 보낸 메시지가 토픽으로 돌아오면 전송 완료로 봄)
+    private static final class ChatUser {
+
+        private final StompSession session;
+        private final Long chatRoomId;
+        private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+        private ChatUser(StompSession session, Long chatRoomId) {
+            this.session = session;
+            this.chatRoomId = chatRoomId;
+        }
+
+        static ChatUser connect(WebSocketStompClient stompClient, String baseUrl, String token, Long chatRoomId,
+                                LatencyRecorder recorder) throws Exception {
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + token);
+
+            long start = System.nanoTime();
+            StompSession session = stompClient.connectAsync(baseUrl + "/ws", new WebSocketHttpHeaders(),
+                    connectHeaders, new StompSessionHandlerAdapter() {}).get(ECHO_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            recorder.record(start, session.isConnected());
+
+            ChatUser chatUser = new ChatUser(session, chatRoomId);
+            session.subscribe("/topic/chat-rooms/" + chatRoomId, chatUser.new EchoHandler());
+            session.send("/app/chat-rooms/" + chatRoomId + "/open", Map.of());
+            return chatUser;
+        }
+
+        // 메시지를 하나씩 보내고 토픽으로 돌아올 때까지 대기 (시간 초과 시 실패로 기록)
+        void sendMessages(String prefix, int count, LatencyRecorder recorder) throws InterruptedException {
+            for (int i = 0; i < count; i++) {
+                String content = prefix + "-" + i;
+                CompletableFuture<Void> echo = new CompletableFuture<>();
+                pending.put(content, echo);
+
+                long start = System.nanoTime();
+                session.send("/app/chat-rooms/" + chatRoomId + "/chats", Map.of("content", content));
+                boolean received;
+                try {
+                    echo.get(ECHO_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    received = true;
+                } catch (ExecutionException | TimeoutException e) {
+                    received = false;
+                } finally {
+                    pending.remove(content);
+                }
+                recorder.record(start, received);
+            }
+        }
+
+        void disconnect() {
+            if (session.isConnected()) {
+                session.send("/app/chat-rooms/" + chatRoomId + "/close", Map.of());
+                session.disconnect();
+            }
+        }
+
+        private final class EchoHandler implements StompFrameHandler {
+
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                CompletableFuture<Void> echo = pending.get(((JsonNode) payload).path("content").asText());
+                if (echo != null) {
+                    echo.complete(null);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.knu_connect.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 요청 지연 시간 수집 및 처리량/백분위 계산 (구간의 SQL 수를 넘기면 요청당 쿼리 수도 출력)
+final class LatencyRecorder {
+
+    private final String name;
+    private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong errors = new AtomicLong();
+    private long startedAt;
+    private long finishedAt;
+    private long statements = -1;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    void start() {
+        startedAt = System.nanoTime();
+    }
+
+    void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    void record(long startNanos, boolean success) {
+        latencies.add(System.nanoTime() - startNanos);
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    // 측정 구간 동안 실행된 SQL 수
+    void statements(long statements) {
+        this.statements = statements;
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    int count() {
+        return latencies.size();
+    }
+
+    double throughput() {
+        return count() / ((finishedAt - startedAt) / 1_000_000_000.0);
+    }
+
+    double percentileMillis(double percentile) {
+        List<Long> sorted;
+        synchronized (latencies) {
+            sorted = new ArrayList<>(latencies);
+        }
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    String summary() {
+        String queries = statements < 0 || count() == 0 ? "-" : String.format("%.1f", (double) statements / count());
+        return String.format("%-40s requests=%6d errors=%4d throughput=%9.1f req/s p50=%8.2f ms p99=%8.2f ms queries/req=%s",
+                name, count(), errors(), throughput(), percentileMillis(50), percentileMillis(99), queries);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.knu_connect.loadtest;
+
+import com.example.knu_connect.KnuConnectApplication;
+import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.domain.user.entity.enums.*;
+import com.example.knu_connect.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+// 부하 테스트용 애플리케이션 실행기
+// dev 프로파일(H2)로 임의 포트에 애플리케이션을 띄우고, Redis는 테스트에서 실행한 내장 Redis에 연결
+// 요청 처리 비용만 측정하도록 SQL/디버그 로그는 끔
+// 요청당 쿼리 수를 구할 수 있도록 Hibernate 통계를 켬
+final class LoadTestApp implements AutoCloseable {
+
+    static final String PASSWORD = "password1234";
+
+    private final ConfigurableApplicationContext context;
+
+    private LoadTestApp(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static LoadTestApp start(int redisPort, String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.data.redis.port=" + redisPort,
+                "spring.datasource.url=jdbc:h2:mem:loadtest-" + UUID.randomUUID(),
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "logging.level.root=WARN",
+                "logging.level.com.example.knu_connect=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        defaults.addAll(List.of(properties));
+
+        // 프로파일 설정 파일보다 우선하도록 명령행 인자로 전달
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(KnuConnectApplication.class)
+                .run(defaults.stream().map(property -> "--" + property).toArray(String[]::new));
+        return new LoadTestApp(context);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    // 부하 테스트 사용자 생성 (loadtest{i}@knu.ac.kr, 짝수 번호는 멘토), 생성 순서대로 사용자 ID 반환
+    List<Long> seedUsers(int count) {
+        String encoded = bean(PasswordEncoder.class).encode(PASSWORD);
+        return bean(UserRepository.class).saveAll(IntStream.range(0, count)
+                .mapToObj(i -> User.builder()
+                        .name("user" + i)
+                        .email(email(i))
+                        .password(encoded)
+                        .status(Status.student)
+                        .department(Department.computer)
+                        .career(Career.employment)
+                        .interest(Interest.backend)
+                        .mbti(Mbti.ISTJ)
+                        .mentor(i % 2 == 0)
+                        .build())
+                .toList()).stream()
+                .map(User::getId)
+                .toList();
+    }
+
+    static String email(int i) {
+        return "loadtest" + i + "@knu.ac.kr";
+    }
+
+    // 실행된 SQL 수 (Statistics.clear()로 구간별 측정)
+    Statistics statistics() {
+        return bean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.knu_connect.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+// 부하 테스트용 REST 클라이언트 (요청마다 지연 시간을 기록)
+final class LoadTestClient implements AutoCloseable {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    LoadTestClient(String baseUrl, ExecutorService executor) {
+        this.httpClient = HttpClient.newBuilder().executor(executor).build();
+        this.baseUrl = baseUrl;
+    }
+
+    // 로그인 후 Access Token 반환
+    String login(String email, LatencyRecorder recorder) throws IOException, InterruptedException {
+        JsonNode body = post("/api/auth/login", null, Map.of("email", email, "password", LoadTestApp.PASSWORD), recorder);
+        return body.path("token").asText();
+    }
+
+    JsonNode get(String path, String token, LatencyRecorder recorder) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return send(request, recorder);
+    }
+
+    JsonNode post(String path, String token, Object body, LatencyRecorder recorder)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request.build(), recorder);
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
+    // 2xx가 아니면 실패로 기록, 응답 본문이 없으면 빈 노드 반환
+    private JsonNode send(HttpRequest request, LatencyRecorder recorder) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        recorder.record(start, response.statusCode() / 100 == 2);
+        return response.body().isEmpty() ? objectMapper.missingNode() : objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.knu_connect.loadtest;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 플랫폼 스레드(기본) 모드와 가상 스레드(vthreads 프로파일) 모드의 처리량/지연 시간 비교
+// 같은 JVM에서 두 모드로 애플리케이션을 차례로 띄우고 같은 부하를 가함
+// - 로그인: BCrypt + users 조회 (CPU 위주)
+// - 채팅방 목록 조회: JWT 인증 + DB 조회 (블로킹 I/O 위주)
+// 실행: gradle loadTest --tests '*VirtualThreadModeLoadTest' -Dloadtest.concurrency=400 -Dloadtest.requests-per-client=50
+class VirtualThreadModeLoadTest {
+
+    private static final int USERS = 50;
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 200);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("loadtest.requests-per-client", 25);
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @Test
+    void 플랫폼_스레드와_가상_스레드_모드_비교() throws Exception {
+        List<String> report = new ArrayList<>();
+        report.addAll(run("platform", "spring.threads.virtual.enabled=false"));
+        report.addAll(run("virtual", "spring.profiles.active=dev,vthreads"));
+
+        System.out.printf("%n=== Virtual thread mode comparison (concurrency=%d, requests/client=%d) ===%n",
+                CONCURRENCY, REQUESTS_PER_CLIENT);
+        report.forEach(System.out::println);
+    }
+
+    private List<String> run(String mode, String... properties) throws Exception {
+        try (LoadTestApp app = LoadTestApp.start(redisPort, properties);
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             LoadTestClient client = new LoadTestClient(app.baseUrl(), clients)) {
+            app.seedUsers(USERS);
+
+            // 로그인 (사용자별 Access Token 확보 겸 측정)
+            LatencyRecorder login = new LatencyRecorder(mode + " POST /api/auth/login");
+            List<String> tokens = login(client, login, clients);
+
+            // 워밍업 후 채팅방 목록 조회 측정
+            load(client, tokens, new LatencyRecorder("warmup"), clients, 2);
+            LatencyRecorder chatRooms = new LatencyRecorder(mode + " GET /api/chat-rooms");
+            load(client, tokens, chatRooms, clients, REQUESTS_PER_CLIENT);
+
+            assertThat(login.errors()).isZero();
+            assertThat(chatRooms.errors()).isZero();
+            return List.of(login.summary(), chatRooms.summary());
+        }
+    }
+
+    private List<String> login(LoadTestClient client, LatencyRecorder recorder, ExecutorService clients)
+            throws Exception {
+        recorder.start();
+        List<Future<String>> futures = IntStream.range(0, USERS)
+                .mapToObj(i -> clients.submit(() -> client.login(LoadTestApp.email(i), recorder)))
+                .toList();
+
+        List<String> tokens = new ArrayList<>();
+        for (Future<String> future : futures) {
+            tokens.add(future.get());
+        }
+        recorder.finish();
+        return tokens;
+    }
+
+    private void load(LoadTestClient client, List<String> tokens, LatencyRecorder recorder,
+                      ExecutorService clients, int requestsPerClient) throws Exception {
+        recorder.start();
+        List<Future<Object>> futures = IntStream.range(0, CONCURRENCY)
+                .<Future<Object>>mapToObj(i -> clients.submit(() -> {
+                    for (int request = 0; request < requestsPerClient; request++) {
+                        client.get("/api/chat-rooms", tokens.get(i % tokens.size()), recorder);
+                    }
+                    return null;
+                }))
+                .toList();
+
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+        recorder.finish();
+    }
+}
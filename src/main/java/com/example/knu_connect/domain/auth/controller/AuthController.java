@@ -5,9 +5,12 @@ import com.example.knu_connect.domain.auth.dto.request.EmailVerifyRequestDto;
 import com.example.knu_connect.domain.auth.dto.request.LoginRequestDto;
 import com.example.knu_connect.domain.auth.dto.request.SignupRequestDto;
 import com.example.knu_connect.domain.auth.dto.response.EmailResponseDto;
+import com.example.knu_connect.domain.auth.dto.response.EmailSendResponseDto;
+import com.example.knu_connect.domain.auth.dto.response.EmailStatusResponseDto;
 import com.example.knu_connect.domain.auth.dto.response.LoginResponseDto;
 import com.example.knu_connect.domain.auth.dto.response.TokenWithRefreshResponseDto;
 import com.example.knu_connect.domain.auth.service.AuthService;
+import com.example.knu_connect.domain.auth.service.EmailRateLimiter;
 import com.example.knu_connect.domain.auth.service.EmailService;
 import com.example.knu_connect.domain.auth.service.SignupService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,6 +39,7 @@ public class AuthController {
     private final SignupService signupService;
     private final EmailService emailService;
     private final AuthService authService;
+    private final EmailRateLimiter emailRateLimiter;
 
     @Operation(
             summary = "회원가입",
@@ -133,20 +137,63 @@ public class AuthController {
                 .build();
     }
 
+    @Operation(
+            summary = "모든 기기에서 로그아웃",
+            description = "현재 사용자의 모든 세션(Refresh Token)을 삭제합니다. 다른 기기의 Access Token은 남은 유효시간이 지나면 만료됩니다",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "로그아웃 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content)
+    })
+    @DeleteMapping("/sessions")
+    public ResponseEntity<Void> logoutAll(@RequestHeader(value = "Authorization") String authorization) {
+
+        // Redis에 Access Token 블랙리스트 등록 및 사용자의 모든 Refresh Token 삭제 처리
+        String accessToken = authorization.split(" ")[1];
+        authService.logoutAll(accessToken);
+
+        // Refresh Token 쿠키를 무효화(삭제용 Set-Cookie 헤더 생성)
+        String clearCookieValue = authService.formatClearRefreshTokenCookie();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, clearCookieValue)
+                .build();
+    }
+
     @Operation(summary = "이메일 인증번호 전송", description = "입력한 이메일로 인증번호를 전송합니다")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200", 
                     description = "인증번호 전송 성공",
-                    content = @Content(schema = @Schema(implementation = EmailResponseDto.class))
+                    content = @Content(schema = @Schema(implementation = EmailSendResponseDto.class))
             ),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
-            @ApiResponse(responseCode = "500", description = "이메일 전송 실패", content = @Content)
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과", content = @Content),
+            @ApiResponse(responseCode = "500", description = "이메일 메시지 생성 실패", content = @Content),
+            @ApiResponse(responseCode = "503", description = "이메일 발송 요청 과다", content = @Content)
     })
     @PostMapping("/email/send")
-    public ResponseEntity<EmailResponseDto> sendEmailVerification(@Valid @RequestBody EmailSendRequestDto request) {
-        emailService.sendVerificationCode(request);
-        EmailResponseDto response = new EmailResponseDto(true, "인증번호가 전송되었습니다");
+    public ResponseEntity<EmailSendResponseDto> sendEmailVerification(@Valid @RequestBody EmailSendRequestDto request,
+                                                                      HttpServletRequest httpRequest) {
+        emailRateLimiter.checkSend(request.email(), httpRequest.getRemoteAddr());
+        String requestId = emailService.sendVerificationCode(request);
+        EmailSendResponseDto response = new EmailSendResponseDto(true, "인증번호가 전송되었습니다", requestId);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "이메일 인증번호 발송 상태 조회", description = "인증번호 전송 응답의 요청 ID로 메일 발송 상태(QUEUED, RETRYING, SENT, FAILED)를 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = EmailStatusResponseDto.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "발송 요청 없음", content = @Content)
+    })
+    @GetMapping("/email/status")
+    public ResponseEntity<EmailStatusResponseDto> getEmailStatus(@RequestParam("request_id") String requestId) {
+        EmailStatusResponseDto response = new EmailStatusResponseDto(requestId, emailService.getDeliveryStatus(requestId));
         return ResponseEntity.ok(response);
     }
 
@@ -157,10 +204,13 @@ public class AuthController {
                     description = "인증 확인 완료",
                     content = @Content(schema = @Schema(implementation = EmailResponseDto.class))
             ),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 인증번호 불일치", content = @Content)
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 인증번호 불일치", content = @Content),
+            @ApiResponse(responseCode = "429", description = "요청 한도 초과", content = @Content)
     })
     @PostMapping("/email/verify")
-    public ResponseEntity<EmailResponseDto> verifyEmail(@Valid @RequestBody EmailVerifyRequestDto request) {
+    public ResponseEntity<EmailResponseDto> verifyEmail(@Valid @RequestBody EmailVerifyRequestDto request,
+                                                        HttpServletRequest httpRequest) {
+        emailRateLimiter.checkVerify(request.email(), httpRequest.getRemoteAddr());
         authService.verifyCode(request);
         EmailResponseDto response = new EmailResponseDto(true, "이메일 인증이 완료되었습니다");
         return ResponseEntity.ok(response);
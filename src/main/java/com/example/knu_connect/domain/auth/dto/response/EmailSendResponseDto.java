@@ -0,0 +1,16 @@
+package com.example.knu_connect.domain.auth.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "이메일 인증번호 발송 요청 응답")
+public record EmailSendResponseDto(
+        @Schema(description = "성공 여부", example = "true")
+        Boolean success,
+
+        @Schema(description = "메시지", example = "인증번호가 전송되었습니다")
+        String message,
+
+        @Schema(description = "발송 상태 조회용 요청 ID", example = "3f2b6c1e-8d4a-4f7e-9a51-2c0d7b9e6a13")
+        String requestId
+) {
+}
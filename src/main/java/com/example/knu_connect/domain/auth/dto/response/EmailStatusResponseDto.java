@@ -0,0 +1,14 @@
+package com.example.knu_connect.domain.auth.dto.response;
+
+import com.example.knu_connect.domain.auth.service.EmailDeliveryStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "인증 메일 발송 상태 응답")
+public record EmailStatusResponseDto(
+        @Schema(description = "발송 요청 ID", example = "3f2b6c1e-8d4a-4f7e-9a51-2c0d7b9e6a13")
+        String requestId,
+
+        @Schema(description = "발송 상태 (QUEUED, RETRYING, SENT, FAILED)", example = "SENT")
+        EmailDeliveryStatus status
+) {
+}
@@ -4,8 +4,12 @@ import com.example.knu_connect.domain.auth.dto.request.EmailVerifyRequestDto;
 import com.example.knu_connect.domain.auth.dto.request.LoginRequestDto;
 import com.example.knu_connect.domain.auth.dto.response.LoginResponseDto;
 import com.example.knu_connect.domain.auth.dto.response.TokenWithRefreshResponseDto;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import com.example.knu_connect.global.auth.jwt.CustomUserDetails;
 import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenBlacklistFilter;
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
+import com.example.knu_connect.global.auth.jwt.UserPrincipalCache;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
@@ -20,6 +24,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -33,8 +38,10 @@ public class AuthService {
     private final RedisTemplate<String, String> redisTemplate;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
+    private final RefreshTokenStore refreshTokenStore;
     private static final long VERIFIED_TTL_MINUTES = 60; // 인증완료 상태 유지시간 (1시간)
-    private static final long REFRESH_TTL_MINUTES = 10080; // 리프레시 토큰 유지시간 (7일)
 
     // 이메일 검증 관련
     // 이메일 코드 검증
@@ -102,13 +109,14 @@ public class AuthService {
         User user = userDetails.getUser();
         String email = user.getEmail();
 
-        String accessToken = jwtUtil.createAccessToken(email);
+        String accessToken = jwtUtil.createAccessToken(user.getId(), email, user.isMentor());
         String refreshToken = jwtUtil.createRefreshToken(email);
 
-        // Redis에 Refresh Token 저장
-        String key = "token:refresh:" + refreshToken;
-        redisTemplate.opsForValue().set(key, email, REFRESH_TTL_MINUTES, TimeUnit.MINUTES);
-
+        // Redis에 Refresh Token 저장 및 세션 등록 (최대 세션 수를 넘으면 가장 오래된 세션 로그아웃)
+        long evicted = refreshTokenStore.save(user.getId(), jwtUtil.parse(refreshToken));
+        if (evicted > 0) {
+            log.info("최대 세션 수 초과로 이전 세션 {}개 로그아웃: userId={}", evicted, user.getId());
+        }
 
         return new TokenWithRefreshResponseDto(accessToken, refreshToken);
     }
@@ -132,17 +140,45 @@ public class AuthService {
             throw new BusinessException(ErrorCode.INVALID_TOKEN, "Refresh Token이 존재하지 않습니다.");
         }
 
-        // 토큰 남은 유효 시간
-        long exp = jwtUtil.getExpiration(accessToken) - System.currentTimeMillis();
+        TokenClaims accessClaims = jwtUtil.parse(accessToken);
+        blacklist(accessClaims);
+
+        // Redis에 Refresh Token 삭제 (이미 만료되었거나 잘못된 토큰은 저장된 키가 없음)
+        try {
+            TokenClaims refreshClaims = jwtUtil.parse(refreshToken);
+            refreshTokenStore.remove(resolveUserId(accessClaims), refreshToken, refreshClaims);
+        } catch (JwtException e) {
+            log.info("로그아웃 시 유효하지 않은 Refresh Token");
+        }
+    }
+
+    // 모든 기기에서 로그아웃: 현재 Access Token과 사용자의 모든 Refresh Token 무효화
+    // 다른 기기의 Access Token은 재발급이 막히므로 남은 유효시간 이후 만료됨
+    public void logoutAll(String accessToken) {
+        TokenClaims accessClaims = jwtUtil.parse(accessToken);
+        blacklist(accessClaims);
+
+        Long userId = resolveUserId(accessClaims);
+        long removed = refreshTokenStore.removeAll(userId);
+        log.info("모든 기기에서 로그아웃: userId={}, 세션 {}개", userId, removed);
+    }
+
+    // Access Token을 남은 유효 시간 동안 블랙리스트에 등록 (토큰 ID 기준)
+    private void blacklist(TokenClaims accessClaims) {
+        long exp = accessClaims.expiration() - System.currentTimeMillis();
         if (exp < 0) exp = 0;
 
-        // Redis에 블랙리스트로 Access Token 저장
-        String blacklistKey = "token:blacklist:" + accessToken;
+        String blacklistKey = TokenBlacklistFilter.KEY_PREFIX + accessClaims.tokenKey();
         redisTemplate.opsForValue().set(blacklistKey, "true", exp, TimeUnit.MILLISECONDS);
+        tokenBlacklistFilter.add(accessClaims.tokenKey());
+    }
 
-        // Redis에 Refresh Token 삭제
-        String refreshKey = "token:refresh:" + refreshToken;
-        redisTemplate.delete(refreshKey);
+    // 사용자 ID가 없는 이전 형식 Access Token이면 이메일로 조회
+    private Long resolveUserId(TokenClaims accessClaims) {
+        if (accessClaims.userId() != null) {
+            return accessClaims.userId();
+        }
+        return userPrincipalCache.get(accessClaims.email()).userId();
     }
 
     // 로그아웃 시 Refresh Token 쿠키 삭제 (만료 쿠키 전송)
@@ -165,11 +201,9 @@ public class AuthService {
         }
 
         // refreshToken 유효성 검사 및 정보 추출
-        String email;
-        String tokenType;
+        TokenClaims claims;
         try {
-            email = jwtUtil.getEmail(refreshToken);
-            tokenType = jwtUtil.getTokenType(refreshToken);
+            claims = jwtUtil.parse(refreshToken);
         } catch (ExpiredJwtException e) {
             log.info("만료된 토큰 요청");
             throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
@@ -179,19 +213,26 @@ public class AuthService {
         }
 
         // 토큰 타입 확인
-        if (!JwtUtil.REFRESH_TOKEN_TYPE.equals(tokenType)) {
+        if (!claims.isRefreshToken()) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN_TYPE);
         }
+        String email = claims.email();
 
         // Redis 저장값과 비교
-        String refreshKey = "token:refresh:" + refreshToken;
-        if (!Boolean.TRUE.equals(redisTemplate.hasKey(refreshKey))) {
-            log.info("Redis에 존재하지 않는 refresh token: {}", refreshToken);
+        if (!refreshTokenStore.exists(refreshToken, claims)) {
+            log.info("Redis에 존재하지 않는 refresh token: {}", claims.tokenKey());
             throw new BusinessException(ErrorCode.INVALID_TOKEN, "존재하지 않거나 맞지 않는 토큰입니다.");
         }
 
-        // AccessToken 재발급
-        String newAccessToken = jwtUtil.createAccessToken(email);
+        // AccessToken 재발급 (멘토 여부 등 변경된 사용자 정보 반영)
+        AuthPrincipal principal;
+        try {
+            principal = userPrincipalCache.get(email);
+        } catch (UsernameNotFoundException e) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        String newAccessToken = jwtUtil.createAccessToken(principal.userId(), email, principal.mentor());
+        refreshTokenStore.track(principal.userId(), refreshToken, claims);
         log.info("AccessToken 재발급 성공: email={}", email);
 
         return new LoginResponseDto(newAccessToken);
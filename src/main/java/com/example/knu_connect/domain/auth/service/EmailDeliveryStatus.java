@@ -0,0 +1,9 @@
+package com.example.knu_connect.domain.auth.service;
+
+// 인증 메일 발송 상태
+public enum EmailDeliveryStatus {
+    QUEUED,     // 발송 대기
+    RETRYING,   // 발송 실패 후 재시도 대기
+    SENT,       // 발송 완료
+    FAILED      // 최대 재시도 후 발송 실패
+}
@@ -0,0 +1,249 @@
+package com.example.knu_connect.domain.auth.service;
+
+import com.example.knu_connect.global.exception.common.BusinessException;
+import com.example.knu_connect.global.exception.common.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+// 인증 메일 비동기 발송기
+// - 요청 스레드는 제한된 크기의 큐에 메일을 넣고 바로 반환 (큐가 가득 차면 EMAIL_QUEUE_FULL)
+// - 전용 워커 스레드가 큐에서 최대 batch-size개씩 꺼내 한 번의 SMTP 연결로 전송
+// - 전송 실패한 메일만 지수 백오프 후 다시 큐에 넣고, 최대 시도 횟수를 넘으면 FAILED 처리
+// - 발송 상태는 요청마다 발급한 ID로 Redis(email:status:{요청 ID})에 저장하여 다른 인스턴스에서도 조회 가능
+//   (이메일로 조회하면 가입 여부와 무관하게 특정 주소로의 발송 이력이 노출되므로 요청한 사람만 아는 ID 사용)
+// - 워커는 컨테이너가 start()를 호출할 때 시작하고, stop()에서 큐에 남은 메일을 모두 보낸 뒤 종료
+//   (재시도 대기 중인 메일은 기다리지 않고 FAILED 처리하여 RETRYING 상태로 남지 않게 함)
+@Slf4j
+@Component
+public class EmailDispatcher implements SmartLifecycle {
+
+    public static final String STATUS_KEY_PREFIX = "email:status:";
+    private static final long STATUS_TTL_MINUTES = 10; // 발송 상태 유지시간 (인증 번호 TTL보다 길게)
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final JavaMailSender mailSender;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BlockingQueue<EmailJob> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    // 백오프 후 다시 큐에 넣을 때까지 대기 중인 메일 (종료 시 FAILED 처리)
+    private final Set<EmailJob> pendingRetries = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    public EmailDispatcher(JavaMailSender mailSender,
+                           RedisTemplate<String, String> redisTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity,
+                           @Value("${mail.dispatch.workers:2}") int workerCount,
+                           @Value("${mail.dispatch.batch-size:20}") int batchSize,
+                           @Value("${mail.dispatch.max-attempts:3}") int maxAttempts,
+                           @Value("${mail.dispatch.initial-backoff-ms:1000}") long initialBackoffMillis) {
+        this.mailSender = mailSender;
+        this.redisTemplate = redisTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+
+        Gauge.builder("email.dispatch.queued", queue, BlockingQueue::size).register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("email.dispatch", "result", "sent");
+        this.retriedCounter = meterRegistry.counter("email.dispatch", "result", "retried");
+        this.failedCounter = meterRegistry.counter("email.dispatch", "result", "failed");
+    }
+
+    // 발송 요청 등록 후 상태 조회용 요청 ID 반환 (큐가 가득 차거나 워커가 동작 중이 아니면 예외)
+    public String enqueue(String email, MimeMessage message) {
+        String requestId = UUID.randomUUID().toString();
+        updateStatus(requestId, EmailDeliveryStatus.QUEUED);
+        if (!running || !queue.offer(new EmailJob(requestId, email, message, 1))) {
+            redisTemplate.delete(getStatusKey(requestId));
+            log.warn("메일 발송 큐가 가득 참: {}", email);
+            throw new BusinessException(ErrorCode.EMAIL_QUEUE_FULL);
+        }
+        return requestId;
+    }
+
+    // 발송 요청의 상태 조회
+    public EmailDeliveryStatus getStatus(String requestId) {
+        String status = redisTemplate.opsForValue().get(getStatusKey(requestId));
+        if (status == null) {
+            throw new BusinessException(ErrorCode.EMAIL_STATUS_NOT_FOUND);
+        }
+        return EmailDeliveryStatus.valueOf(status);
+    }
+
+    @Override
+    public void start() {
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mail-retry-"));
+        workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("mail-dispatch-"));
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+    }
+
+    // 큐에 남은 메일을 모두 보낸 뒤 워커 종료 (재시도 대기 중인 메일과 종료 중 실패한 메일은 FAILED 처리)
+    @Override
+    public void stop() {
+        if (workers == null) {
+            return;
+        }
+
+        running = false;
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("메일 발송 워커 종료 시간 초과: 남은 메일 {}건", queue.size());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        // 재시도 대기 중이던 메일과 시간 초과로 보내지 못한 메일은 상태를 남겨 재요청할 수 있게 함
+        for (EmailJob job : pendingRetries) {
+            if (pendingRetries.remove(job)) {
+                fail(job, null);
+            }
+        }
+        List<EmailJob> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(job -> fail(job, null));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runWorker() {
+        List<EmailJob> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                EmailJob first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("메일 발송 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 한 번의 SMTP 연결로 묶어서 전송하고, 실패한 메일만 재시도
+    private void deliver(List<EmailJob> batch) {
+        MimeMessage[] messages = batch.stream().map(EmailJob::message).toArray(MimeMessage[]::new);
+        try {
+            mailSender.send(messages);
+            batch.forEach(this::complete);
+        } catch (MailException e) {
+            // 연결 실패 등으로 실패 목록이 없으면 묶음 전체를 실패로 처리
+            Map<Object, Exception> failedMessages =
+                    e instanceof MailSendException sendException ? sendException.getFailedMessages() : Map.of();
+            for (EmailJob job : batch) {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(job.message())) {
+                    retryOrFail(job, e);
+                } else {
+                    complete(job);
+                }
+            }
+        }
+    }
+
+    private void complete(EmailJob job) {
+        sentCounter.increment();
+        updateStatus(job.requestId(), EmailDeliveryStatus.SENT);
+        log.info("이메일 인증번호 전송 성공: {}", job.email());
+    }
+
+    private void retryOrFail(EmailJob job, MailException cause) {
+        if (job.attempt() >= maxAttempts) {
+            fail(job, cause);
+            return;
+        }
+
+        long backoffMillis = initialBackoffMillis << (job.attempt() - 1);
+        log.warn("메일 전송 실패, {}ms 후 재시도 ({}/{}): {}", backoffMillis, job.attempt(), maxAttempts, job.email());
+        retriedCounter.increment();
+        updateStatus(job.requestId(), EmailDeliveryStatus.RETRYING);
+        pendingRetries.add(job);
+        try {
+            retryScheduler.schedule(() -> {
+                // stop()에서 이미 FAILED 처리했으면 다시 넣지 않음
+                if (pendingRetries.remove(job) && !queue.offer(job.nextAttempt())) {
+                    fail(job, cause);
+                }
+            }, backoffMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 stop()과 이 분기 중 먼저 꺼낸 쪽만 FAILED 처리
+            if (pendingRetries.remove(job)) {
+                fail(job, cause);
+            }
+        }
+    }
+
+    private void fail(EmailJob job, MailException cause) {
+        failedCounter.increment();
+        updateStatus(job.requestId(), EmailDeliveryStatus.FAILED);
+        log.error("메일 전송 실패: {}", job.email(), cause);
+    }
+
+    // 상태 저장 실패는 발송에 영향을 주지 않음
+    private void updateStatus(String requestId, EmailDeliveryStatus status) {
+        try {
+            redisTemplate.opsForValue().set(getStatusKey(requestId), status.name(), STATUS_TTL_MINUTES, TimeUnit.MINUTES);
+        } catch (RuntimeException e) {
+            log.warn("메일 발송 상태 저장 실패: {} {}", requestId, status, e);
+        }
+    }
+
+    private String getStatusKey(String requestId) {
+        return STATUS_KEY_PREFIX + requestId;
+    }
+
+    private record EmailJob(String requestId, String email, MimeMessage message, int attempt) {
+
+        EmailJob nextAttempt() {
+            return new EmailJob(requestId, email, message, attempt + 1);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.knu_connect.domain.auth.service;
+
+import com.example.knu_connect.global.ratelimit.RateLimitExceededException;
+import com.example.knu_connect.global.ratelimit.RateLimitPolicy;
+import com.example.knu_connect.global.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// 이메일 인증번호 전송/확인 요청 제한 (이메일별, IP별)
+// - 전송: 메일 발송 한도와 사용자 조회 쿼리 보호
+// - 확인: 6자리 인증번호 무차별 대입 방지
+// - 이메일별 한도에 걸리면 이미 사용한 IP 토큰을 돌려줌 (같은 이메일 재시도로 IP 한도가 소진되지 않음)
+@Component
+public class EmailRateLimiter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitPolicy sendPerEmail;
+    private final RateLimitPolicy sendPerIp;
+    private final RateLimitPolicy verifyPerEmail;
+    private final RateLimitPolicy verifyPerIp;
+
+    public EmailRateLimiter(RateLimiter rateLimiter,
+                            @Value("${ratelimit.email-send.per-email.capacity:3}") int sendPerEmailCapacity,
+                            @Value("${ratelimit.email-send.per-email.refill-seconds:60}") long sendPerEmailRefillSeconds,
+                            @Value("${ratelimit.email-send.per-ip.capacity:20}") int sendPerIpCapacity,
+                            @Value("${ratelimit.email-send.per-ip.refill-seconds:10}") long sendPerIpRefillSeconds,
+                            @Value("${ratelimit.email-verify.per-email.capacity:5}") int verifyPerEmailCapacity,
+                            @Value("${ratelimit.email-verify.per-email.refill-seconds:60}") long verifyPerEmailRefillSeconds,
+                            @Value("${ratelimit.email-verify.per-ip.capacity:30}") int verifyPerIpCapacity,
+                            @Value("${ratelimit.email-verify.per-ip.refill-seconds:5}") long verifyPerIpRefillSeconds) {
+        this.rateLimiter = rateLimiter;
+        this.sendPerEmail = new RateLimitPolicy("email-send:email", sendPerEmailCapacity, Duration.ofSeconds(sendPerEmailRefillSeconds));
+        this.sendPerIp = new RateLimitPolicy("email-send:ip", sendPerIpCapacity, Duration.ofSeconds(sendPerIpRefillSeconds));
+        this.verifyPerEmail = new RateLimitPolicy("email-verify:email", verifyPerEmailCapacity, Duration.ofSeconds(verifyPerEmailRefillSeconds));
+        this.verifyPerIp = new RateLimitPolicy("email-verify:ip", verifyPerIpCapacity, Duration.ofSeconds(verifyPerIpRefillSeconds));
+    }
+
+    // 인증번호 전송 요청 제한 (IP를 먼저 확인하여 여러 이메일을 돌려쓰는 요청 차단)
+    public void checkSend(String email, String clientIp) {
+        check(sendPerIp, clientIp, sendPerEmail, normalize(email));
+    }
+
+    // 인증번호 확인 요청 제한
+    public void checkVerify(String email, String clientIp) {
+        check(verifyPerIp, clientIp, verifyPerEmail, normalize(email));
+    }
+
+    private void check(RateLimitPolicy ipPolicy, String clientIp, RateLimitPolicy emailPolicy, String email) {
+        rateLimiter.acquire(ipPolicy, clientIp);
+        try {
+            rateLimiter.acquire(emailPolicy, email);
+        } catch (RateLimitExceededException e) {
+            rateLimiter.release(ipPolicy, clientIp);
+            throw e;
+        }
+    }
+
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
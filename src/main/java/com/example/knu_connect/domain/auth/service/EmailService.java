@@ -10,10 +10,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
@@ -29,12 +27,12 @@ public class EmailService {
     private final RedisTemplate<String, String> redisTemplate;
     private final SpringTemplateEngine templateEngine;
     private final UserRepository userRepository;
+    private final EmailDispatcher emailDispatcher;
 
     private static final long CODE_EXPIRE_MINUTES = 5; // 인증 번호 TTL(5분)
 
-    // 이메일 인증 번호 생성 및 전송
-    @Async
-    public void sendVerificationCode(EmailSendRequestDto requestDto) {
+    // 이메일 인증 번호 생성 및 발송 요청 후 발송 상태 조회용 요청 ID 반환 (실제 전송은 EmailDispatcher가 비동기로 처리)
+    public String sendVerificationCode(EmailSendRequestDto requestDto) {
 
         String email = requestDto.email();
         String code = generateCode();       // 인증 번호 생성 (6자리)
@@ -44,11 +42,8 @@ public class EmailService {
                 throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
+        String key = "email:verify:" + email;
         try {
-            // Redis에 코드 저장
-            String key = "email:verify:" + email;
-            redisTemplate.opsForValue().set(key, code, CODE_EXPIRE_MINUTES, TimeUnit.MINUTES);
-
             // 메일 내용 설정
             MimeMessage mimeMessage = mailSender.createMimeMessage();
             MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
@@ -57,12 +52,22 @@ public class EmailService {
             mimeMessageHelper.setSubject("[KNU-connect] 이메일 인증 번호"); // 메일 제목
             mimeMessageHelper.setText(setContext(code), true); // 메일 본문 내용, HTML 여부
 
-            // 메일 발송
-            mailSender.send(mimeMessage);
-            log.info("이메일 인증번호 전송 성공: {}", email);
-        } catch (MailSendException e) {
-            log.error("메일 전송 실패: {}", email, e);
-            throw new BusinessException(ErrorCode.EMAIL_SEND_FAILED);
+            // 발송 요청이 거절되면 이전에 받은 인증 번호를 그대로 쓸 수 있도록 기존 값 보관
+            String previousCode = redisTemplate.opsForValue().get(key);
+            Long previousTtlSeconds = previousCode != null ? redisTemplate.getExpire(key, TimeUnit.SECONDS) : null;
+
+            // Redis에 코드 저장 (워커가 바로 발송할 수 있으므로 큐에 넣기 전에 저장)
+            redisTemplate.opsForValue().set(key, code, CODE_EXPIRE_MINUTES, TimeUnit.MINUTES);
+
+            // 메일 발송 요청 (거절되면 새 인증 번호를 되돌림)
+            try {
+                String requestId = emailDispatcher.enqueue(email, mimeMessage);
+                log.info("이메일 인증번호 발송 요청: {}", email);
+                return requestId;
+            } catch (BusinessException e) {
+                restoreCode(key, previousCode, previousTtlSeconds);
+                throw e;
+            }
         } catch (MessagingException e) {
             log.error("메일 구성 실패: {}", email, e);
             throw new BusinessException(ErrorCode.EMAIL_BUILD_FAILED);
@@ -73,6 +78,25 @@ public class EmailService {
     }
 
 
+    // 인증 메일 발송 상태 조회
+    public EmailDeliveryStatus getDeliveryStatus(String requestId) {
+        try {
+            return emailDispatcher.getStatus(requestId);
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패", e);
+            throw new BusinessException(ErrorCode.REDIS_CONNECTION_FAILED);
+        }
+    }
+
+    // 이전 인증 번호를 남은 유효시간과 함께 복구 (이전 값이 없거나 만료됐으면 삭제)
+    private void restoreCode(String key, String previousCode, Long previousTtlSeconds) {
+        if (previousCode != null && previousTtlSeconds != null && previousTtlSeconds > 0) {
+            redisTemplate.opsForValue().set(key, previousCode, previousTtlSeconds, TimeUnit.SECONDS);
+        } else {
+            redisTemplate.delete(key);
+        }
+    }
+
     // 인증 번호 생성 (6자리 숫자)
     private String generateCode() {
         int randomCode = (int) (Math.random() * 900000) + 100000; // 6자리
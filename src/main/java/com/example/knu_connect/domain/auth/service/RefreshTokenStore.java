@@ -0,0 +1,140 @@
+package com.example.knu_connect.domain.auth.service;
+
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// Refresh Token 저장소와 사용자별 세션 인덱스
+// - token:refresh:{토큰 키} : Refresh Token (value=이메일, TTL=7일)
+// - token:sessions:{사용자ID} : 사용자의 Refresh Token 목록 (ZSET, member=토큰 키, score=만료 시각)
+// 만료된 세션은 로그인/재발급 시 정리하고, 최대 세션 수를 넘으면 가장 오래된 세션부터 삭제
+// 스크립트가 접근하는 키는 모두 KEYS로 전달 (ARGV로 키 이름을 만들면 클러스터 슬롯 라우팅과 ACL 키 권한 검사를 우회함)
+//   -> 삭제할 세션은 먼저 조회한 뒤, 세션 인덱스와 Refresh Token 키를 함께 넘겨 한 번에 삭제
+// jti 도입 전 토큰은 전체 토큰 문자열이 토큰 키
+@Component
+public class RefreshTokenStore {
+
+    public static final String REFRESH_KEY_PREFIX = "token:refresh:";
+    private static final String SESSIONS_KEY_PREFIX = "token:sessions:";
+    private static final long REFRESH_TTL_SECONDS = 7 * 24 * 60 * 60; // 리프레시 토큰 유지시간 (7일)
+
+    // 세션 저장 후 최대 세션 수를 넘은 세션 목록 반환 (오래된 순)
+    // KEYS: 세션 키, Refresh Token 키 / ARGV: 토큰 키, 이메일, TTL(초), 만료 시각, 현재 시각, 최대 세션 수
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[5]) " +
+            "redis.call('ZADD', KEYS[1], ARGV[4], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[6]) " +
+            "if overflow <= 0 then return {} end " +
+            "return redis.call('ZRANGE', KEYS[1], 0, overflow - 1)",
+            List.class);
+
+    // 세션 인덱스에서 세션을 제거하고 Refresh Token 삭제 (이 호출에서 인덱스에서 제거한 세션 수 반환)
+    // KEYS: 세션 키, 세션별 Refresh Token 키 / ARGV: 세션 member (KEYS[i + 1]과 같은 순서)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "local removed = 0 " +
+            "for i, member in ipairs(ARGV) do " +
+            "removed = removed + redis.call('ZREM', KEYS[1], member) " +
+            "redis.call('DEL', KEYS[i + 1]) " +
+            "end " +
+            "return removed",
+            Long.class);
+
+    // 재발급 시 세션 인덱스 보정 (인덱스 도입 전 세션도 등록) 및 만료된 세션 정리
+    // KEYS: 세션 키 / ARGV: 토큰 키, 만료 시각, 현재 시각
+    private static final RedisScript<Long> TRACK_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3]) " +
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "local ttl = tonumber(ARGV[2]) - tonumber(ARGV[3]) " +
+            "if redis.call('PTTL', KEYS[1]) < ttl then redis.call('PEXPIRE', KEYS[1], ttl) end " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int maxSessionsPerUser;
+
+    public RefreshTokenStore(RedisTemplate<String, String> redisTemplate,
+                             @Value("${auth.session.max-per-user:5}") int maxSessionsPerUser) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    // 로그인 시 Refresh Token 저장 및 세션 등록 (최대 세션 수 초과분 삭제, 삭제한 세션 수 반환)
+    @SuppressWarnings("unchecked")
+    public long save(Long userId, TokenClaims claims) {
+        String sessionsKey = getSessionsKey(userId);
+        List<String> overflow = redisTemplate.execute(SAVE_SCRIPT,
+                List.of(sessionsKey, REFRESH_KEY_PREFIX + claims.tokenKey()),
+                claims.tokenKey(), claims.email(), String.valueOf(REFRESH_TTL_SECONDS),
+                String.valueOf(claims.expiration()), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(maxSessionsPerUser));
+        return evict(sessionsKey, overflow);
+    }
+
+    // 저장된(로그아웃/삭제되지 않은) Refresh Token인지 확인
+    public boolean exists(String refreshToken, TokenClaims claims) {
+        Long count = redisTemplate.countExistingKeys(refreshKeys(refreshToken, claims));
+        return count != null && count > 0;
+    }
+
+    // 재발급 시 세션 인덱스 갱신
+    public void track(Long userId, String refreshToken, TokenClaims claims) {
+        redisTemplate.execute(TRACK_SCRIPT, List.of(getSessionsKey(userId)),
+                sessionMember(refreshToken, claims), String.valueOf(claims.expiration()),
+                String.valueOf(System.currentTimeMillis()));
+    }
+
+    // 로그아웃 시 Refresh Token과 세션 삭제
+    public void remove(Long userId, String refreshToken, TokenClaims claims) {
+        redisTemplate.delete(refreshKeys(refreshToken, claims));
+        redisTemplate.opsForZSet().remove(getSessionsKey(userId), claims.tokenKey(), refreshToken);
+    }
+
+    // 모든 기기에서 로그아웃: 사용자의 모든 Refresh Token 삭제 (삭제한 세션 수 반환)
+    public long removeAll(Long userId) {
+        String sessionsKey = getSessionsKey(userId);
+        Set<String> members = redisTemplate.opsForZSet().range(sessionsKey, 0, -1);
+        return members == null ? 0 : evict(sessionsKey, members);
+    }
+
+    // 세션 인덱스와 Refresh Token 키를 모두 KEYS로 넘겨 함께 삭제
+    private long evict(String sessionsKey, Collection<String> members) {
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = new ArrayList<>(members.size() + 1);
+        keys.add(sessionsKey);
+        members.forEach(member -> keys.add(REFRESH_KEY_PREFIX + member));
+
+        Long removed = redisTemplate.execute(EVICT_SCRIPT, keys, members.toArray());
+        return removed == null ? 0 : removed;
+    }
+
+    // Refresh Token의 Redis 키 (jti 도입 전 토큰은 전체 토큰 문자열 키로 저장되어 있을 수 있음)
+    private List<String> refreshKeys(String refreshToken, TokenClaims claims) {
+        if (claims.isLegacy()) {
+            return List.of(REFRESH_KEY_PREFIX + claims.tokenKey(), REFRESH_KEY_PREFIX + refreshToken);
+        }
+        return List.of(REFRESH_KEY_PREFIX + claims.tokenKey());
+    }
+
+    // 세션 인덱스 member: 저장된 Refresh Token 키의 토큰 부분
+    private String sessionMember(String refreshToken, TokenClaims claims) {
+        return claims.isLegacy() ? refreshToken : claims.tokenKey();
+    }
+
+    private String getSessionsKey(Long userId) {
+        return SESSIONS_KEY_PREFIX + userId;
+    }
+}
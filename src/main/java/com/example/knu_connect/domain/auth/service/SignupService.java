@@ -3,6 +3,7 @@ package com.example.knu_connect.domain.auth.service;
 import com.example.knu_connect.domain.auth.dto.request.SignupRequestDto;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.entity.enums.*;
+import com.example.knu_connect.domain.user.event.UserPrincipalChangedEvent;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
@@ -10,6 +11,7 @@ import com.example.knu_connect.global.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,7 @@ public class SignupService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void signup(SignupRequestDto request) {
@@ -55,6 +58,9 @@ public class SignupService {
         userRepository.save(user);
         log.info("회원가입 성공: {}", request.email());
 
+        // 같은 이메일로 남아 있을 수 있는 인증 주체 캐시 무효화 (커밋 이후)
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(request.email()));
+
         // redis에서 인증 상태 삭제
         authService.clearVerifiedEmail(request.email());
     }
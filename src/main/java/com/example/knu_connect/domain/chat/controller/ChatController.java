@@ -3,8 +3,8 @@ package com.example.knu_connect.domain.chat.controller;
 import com.example.knu_connect.domain.chat.dto.request.ChatRoomCreateRequestDto;
 import com.example.knu_connect.domain.chat.dto.response.*;
 import com.example.knu_connect.domain.chat.service.ChatService;
-import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.global.annotation.AuthUser;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -45,10 +45,10 @@ public class ChatController {
     })
     @PostMapping
     public ResponseEntity<ChatRoomCreateResponseDto> createChatRoom(
-            @AuthUser User user,
+            @AuthUser AuthPrincipal principal,
             @Valid @RequestBody ChatRoomCreateRequestDto request
     ) {
-        ChatRoomCreateResponseDto response = chatService.createChatRoom(user.getId(), request);
+        ChatRoomCreateResponseDto response = chatService.createChatRoom(principal.userId(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -65,8 +65,8 @@ public class ChatController {
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content)
     })
     @GetMapping
-    public ResponseEntity<ChatRoomListResponseDto> getChatRoomList(@AuthUser User user) {
-        ChatRoomListResponseDto response = chatService.getChatRoomList(user.getId());
+    public ResponseEntity<ChatRoomListResponseDto> getChatRoomList(@AuthUser AuthPrincipal principal) {
+        ChatRoomListResponseDto response = chatService.getChatRoomList(principal.userId());
         return ResponseEntity.ok(response);
     }
 
@@ -91,12 +91,12 @@ public class ChatController {
     })
     @GetMapping("/{chat_room_id}")
     public ResponseEntity<ChatMessageListResponseDto> getChatMessageList(
-            @AuthUser User user,
+            @AuthUser AuthPrincipal principal,
             @PathVariable("chat_room_id") Long chatRoomId,
             @RequestParam(required = false) Long cursor,
             @RequestParam(defaultValue = "20") int size
     ) {
-        ChatMessageListResponseDto response = chatService.getChatMessageList(user.getId(), chatRoomId, cursor, size);
+        ChatMessageListResponseDto response = chatService.getChatMessageList(principal.userId(), chatRoomId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -116,11 +116,11 @@ public class ChatController {
     })
     @DeleteMapping("/{chat_room_id}/chats/{chat_id}")
     public ResponseEntity<Void> deleteMessage(
-            @AuthUser User user,
+            @AuthUser AuthPrincipal principal,
             @PathVariable("chat_room_id") Long chatRoomId,
             @PathVariable("chat_id") Long chatId
     ) {
-        chatService.deleteMessage(user.getId(), chatRoomId, chatId);
+        chatService.deleteMessage(principal.userId(), chatRoomId, chatId);
         return ResponseEntity.noContent().build();
     }
 
@@ -137,10 +137,10 @@ public class ChatController {
     @Parameter(name = "chat_room_id", description = "채팅방 ID", example = "1")
     @DeleteMapping("/{chat_room_id}")
     public ResponseEntity<Void> leaveChatRoom(
-            @AuthUser User user,
+            @AuthUser AuthPrincipal principal,
             @PathVariable("chat_room_id") Long chatRoomId
     ) {
-        chatService.leaveChatRoom(user.getId(), chatRoomId);
+        chatService.leaveChatRoom(principal.userId(), chatRoomId);
         return ResponseEntity.noContent().build();
     }
 
@@ -161,10 +161,10 @@ public class ChatController {
     @Parameter(name = "chat_room_id", description = "채팅방 ID", example = "1")
     @GetMapping("/{chat_room_id}/participants")
     public ResponseEntity<List<ChatRoomParticipantResponseDto>> getChatRoomParticipants(
-            @AuthUser User user,
+            @AuthUser AuthPrincipal principal,
             @PathVariable("chat_room_id") Long chatRoomId
     ) {
-        List<ChatRoomParticipantResponseDto> response = chatService.getChatRoomParticipants(user.getId(), chatRoomId);
+        List<ChatRoomParticipantResponseDto> response = chatService.getChatRoomParticipants(principal.userId(), chatRoomId);
         return ResponseEntity.ok(response);
     }
 
@@ -185,10 +185,10 @@ public class ChatController {
     @Parameter(name = "chat_room_id", description = "채팅방 ID", example = "1")
     @GetMapping("/{chat_room_id}/type")
     public ResponseEntity<ChatRoomTypeResponseDto> getChatRoomType(
-            @AuthUser User user,
+            @AuthUser AuthPrincipal principal,
             @PathVariable("chat_room_id") Long chatRoomId
     ) {
-        ChatRoomTypeResponseDto response = chatService.getChatRoomType(user.getId(), chatRoomId);
+        ChatRoomTypeResponseDto response = chatService.getChatRoomType(principal.userId(), chatRoomId);
         return ResponseEntity.ok(response);
     }
 }
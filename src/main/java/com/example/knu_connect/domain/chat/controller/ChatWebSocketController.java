@@ -3,8 +3,8 @@ package com.example.knu_connect.domain.chat.controller;
 import com.example.knu_connect.domain.chat.dto.request.ChatMessageSendRequestDto;
 import com.example.knu_connect.domain.chat.dto.response.ChatMessageResponseDto;
 import com.example.knu_connect.domain.chat.service.ChatService;
-import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.global.annotation.AuthUser;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -29,11 +29,11 @@ public class ChatWebSocketController {
     public void sendMessage(
             @DestinationVariable Long chatRoomId,
             @Payload ChatMessageSendRequestDto request,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        log.info("메시지 전송 요청 - 채팅방 ID: {}, 사용자 ID: {}", chatRoomId, user.getId());
+        log.info("메시지 전송 요청 - 채팅방 ID: {}, 사용자 ID: {}", chatRoomId, principal.userId());
 
-        ChatMessageResponseDto response = chatService.sendMessage(user.getId(), chatRoomId, request);
+        ChatMessageResponseDto response = chatService.sendMessage(principal.userId(), chatRoomId, request);
         
     }
 
@@ -44,10 +44,10 @@ public class ChatWebSocketController {
     @MessageMapping("/chat-rooms/{chatRoomId}/open")
     public void openChatRoom(
             @DestinationVariable Long chatRoomId,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        log.info("채팅방 열기 요청 - 채팅방 ID: {}, 사용자 ID: {}", chatRoomId, user.getId());
-        chatService.openChatRoom(user.getId(), chatRoomId);
+        log.info("채팅방 열기 요청 - 채팅방 ID: {}, 사용자 ID: {}", chatRoomId, principal.userId());
+        chatService.openChatRoom(principal.userId(), chatRoomId);
     }
 
     /**
@@ -57,10 +57,10 @@ public class ChatWebSocketController {
     @MessageMapping("/chat-rooms/{chatRoomId}/close")
     public void closeChatRoom(
             @DestinationVariable Long chatRoomId,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        log.info("채팅방 닫기 요청 - 채팅방 ID: {}, 사용자 ID: {}", chatRoomId, user.getId());
-        chatService.closeChatRoom(user.getId(), chatRoomId);
+        log.info("채팅방 닫기 요청 - 채팅방 ID: {}, 사용자 ID: {}", chatRoomId, principal.userId());
+        chatService.closeChatRoom(principal.userId(), chatRoomId);
     }
 
     /**
@@ -70,9 +70,9 @@ public class ChatWebSocketController {
     @MessageMapping("/chat-rooms/{chatRoomId}/refresh")
     public void refreshChatRoom(
             @DestinationVariable Long chatRoomId,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        log.debug("채팅방 활동 갱신 - 채팅방 ID: {}, 사용자 ID: {}", chatRoomId, user.getId());
-        chatService.refreshChatRoom(user.getId(), chatRoomId);
+        log.debug("채팅방 활동 갱신 - 채팅방 ID: {}, 사용자 ID: {}", chatRoomId, principal.userId());
+        chatService.refreshChatRoom(principal.userId(), chatRoomId);
     }
 }
@@ -0,0 +1,8 @@
+package com.example.knu_connect.domain.chat.dto.projection;
+
+// 채팅방 참여자별 안읽은 메시지 수 프로젝션
+public record ChatParticipantUnreadRow(
+        Long userId,
+        Long unreadCount
+) {
+}
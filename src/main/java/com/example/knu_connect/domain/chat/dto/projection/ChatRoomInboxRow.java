@@ -0,0 +1,13 @@
+package com.example.knu_connect.domain.chat.dto.projection;
+
+import java.time.LocalDateTime;
+
+// 채팅방 목록 조회용 프로젝션 (채팅방 1개당 1행)
+public record ChatRoomInboxRow(
+        Long chatRoomId,
+        String networkingTitle,
+        String recentMessage,
+        LocalDateTime recentDate,
+        Long unreadCount
+) {
+}
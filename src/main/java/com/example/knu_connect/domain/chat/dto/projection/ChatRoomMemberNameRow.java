@@ -0,0 +1,8 @@
+package com.example.knu_connect.domain.chat.dto.projection;
+
+// 1:1 채팅방 제목 생성을 위한 상대방 이름 프로젝션
+public record ChatRoomMemberNameRow(
+        Long chatRoomId,
+        String name
+) {
+}
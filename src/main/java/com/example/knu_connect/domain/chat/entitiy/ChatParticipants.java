@@ -8,7 +8,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "chat_participants")
+@Table(name = "chat_participants", uniqueConstraints = {
+        // 같은 채팅방에 같은 사용자는 한 번만 참여 (동시 참여 요청 중복 방지)
+        @UniqueConstraint(name = "uk_chat_participants_user_chat_room", columnNames = {"user_id", "chat_room_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class ChatParticipants {
@@ -29,11 +32,16 @@ public class ChatParticipants {
     @Column(name = "last_read_message_id", nullable = false)
     Long lastReadMessageId;
 
+    // 안읽은 메시지 수 (메시지 전송 시 증가, 읽음 처리 시 초기화)
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount;
+
     @Builder
     public ChatParticipants(User user, ChatRoom chatRoom, Long lastReadMessageId) {
         this.user = user;
         this.chatRoom = chatRoom;
         this.lastReadMessageId = lastReadMessageId;
+        this.unreadCount = 0L;
     }
 
     public Long getUserId() {
@@ -43,8 +51,4 @@ public class ChatParticipants {
     public User getUser() {
         return user;
     }
-
-    public void updateLastReadMessageId(Long messageId) {
-        this.lastReadMessageId = messageId;
-    }
 }
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,10 +16,26 @@ import java.util.List;
 @Getter
 public class ChatRoom extends CreatedTimeEntity {
 
+    // 최근 메시지 미리보기 최대 길이
+    public static final int PREVIEW_MAX_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 최근 메시지 요약 (채팅방 목록 조회용, 메시지 전송/삭제 시 갱신)
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_preview", length = PREVIEW_MAX_LENGTH)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_sender_id")
+    private Long lastMessageSenderId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ChatParticipants> participants = new ArrayList<>();
 
@@ -53,6 +70,14 @@ public class ChatRoom extends CreatedTimeEntity {
                 .toList();
     }
 
+    // 최근 메시지 미리보기 생성 (코드포인트 기준으로 잘라 이모지가 깨지지 않도록 함)
+    public static String toPreview(String contents) {
+        if (contents == null || contents.codePointCount(0, contents.length()) <= PREVIEW_MAX_LENGTH) {
+            return contents;
+        }
+        return contents.substring(0, contents.offsetByCodePoints(0, PREVIEW_MAX_LENGTH));
+    }
+
     // 정적 팩토리 메서드
     public static ChatRoom create() {
         return new ChatRoom();
@@ -0,0 +1,17 @@
+package com.example.knu_connect.domain.chat.event;
+
+import com.example.knu_connect.domain.chat.dto.response.ChatMessageResponseDto;
+
+// 메시지 저장 트랜잭션 커밋 이후 브로드캐스트/알림 처리를 위한 이벤트
+public record ChatMessageSentEvent(
+        Long chatRoomId,
+        ChatMessageResponseDto message
+) {
+    public Long senderId() {
+        return message.senderId();
+    }
+
+    public Long messageId() {
+        return message.messageId();
+    }
+}
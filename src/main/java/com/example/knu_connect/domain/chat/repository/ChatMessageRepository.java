@@ -20,20 +20,11 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
                                                    @Param("cursor") Long cursor,
                                                    Pageable pageable);
 
-    // 채팅방의 가장 최근 메시지 조회
-    Optional<ChatMessage> findFirstByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId);
-
     // 최신 메시지 ID 조회
     @Query("SELECT MAX(cm.id) FROM ChatMessage cm " +
             "WHERE cm.chatRoom.id = :chatRoomId")
     Optional<Long> findLatestMessageId(@Param("chatRoomId") Long chatRoomId);
 
-    // 안읽은 메시지 개수 조회
-    @Query("SELECT COUNT(cm) FROM ChatMessage cm " +
-            "WHERE cm.chatRoom.id = :chatRoomId " +
-            "AND cm.id > :lastReadMessageId " +
-            "AND cm.user.id != :userId")
-    Long countUnreadMessages(@Param("chatRoomId") Long chatRoomId,
-                              @Param("lastReadMessageId") Long lastReadMessageId,
-                              @Param("userId") Long userId);
+    // 채팅방의 가장 최근 메시지 조회 (최근 메시지 요약 재계산용)
+    Optional<ChatMessage> findFirstByChatRoomIdOrderByIdDesc(Long chatRoomId);
 }
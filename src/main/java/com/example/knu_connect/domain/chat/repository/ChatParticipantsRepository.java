@@ -1,11 +1,16 @@
 package com.example.knu_connect.domain.chat.repository;
 
+import com.example.knu_connect.domain.chat.dto.projection.ChatParticipantUnreadRow;
+import com.example.knu_connect.domain.chat.dto.projection.ChatRoomMemberNameRow;
 import com.example.knu_connect.domain.chat.entitiy.ChatParticipants;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatParticipantsRepository extends JpaRepository<ChatParticipants, Long> {
@@ -28,4 +33,59 @@ public interface ChatParticipantsRepository extends JpaRepository<ChatParticipan
                                                           @Param("chatRoomId") Long chatRoomId);
 
     boolean existsByUser_IdAndChatRoom_Id(Long userId, Long chatRoomId);
+
+    // 여러 채팅방의 상대방 이름 일괄 조회 (1:1 채팅방 제목용)
+    @Query("SELECT new com.example.knu_connect.domain.chat.dto.projection.ChatRoomMemberNameRow(cp.chatRoom.id, u.name) " +
+            "FROM ChatParticipants cp " +
+            "JOIN cp.user u " +
+            "WHERE cp.chatRoom.id IN :chatRoomIds " +
+            "AND u.id <> :userId " +
+            "ORDER BY cp.id")
+    List<ChatRoomMemberNameRow> findOtherMemberNames(@Param("chatRoomIds") Collection<Long> chatRoomIds,
+                                                      @Param("userId") Long userId);
+
+    // 보낸 사람을 제외한 참여자의 안읽은 메시지 수 증가 (DB에서 원자적으로 증가)
+    @Modifying
+    @Query("UPDATE ChatParticipants cp " +
+            "SET cp.unreadCount = cp.unreadCount + 1 " +
+            "WHERE cp.chatRoom.id = :chatRoomId " +
+            "AND cp.user.id <> :senderId")
+    int incrementUnreadCount(@Param("chatRoomId") Long chatRoomId,
+                             @Param("senderId") Long senderId);
+
+    // 삭제된 메시지를 아직 읽지 않은 참여자의 안읽은 메시지 수 감소
+    @Modifying
+    @Query("UPDATE ChatParticipants cp " +
+            "SET cp.unreadCount = cp.unreadCount - 1 " +
+            "WHERE cp.chatRoom.id = :chatRoomId " +
+            "AND cp.user.id <> :senderId " +
+            "AND cp.lastReadMessageId < :messageId " +
+            "AND cp.unreadCount > 0")
+    int decrementUnreadCount(@Param("chatRoomId") Long chatRoomId,
+                             @Param("senderId") Long senderId,
+                             @Param("messageId") Long messageId);
+
+    // 채팅방 참여자별 안읽은 메시지 수 조회
+    @Query("SELECT new com.example.knu_connect.domain.chat.dto.projection.ChatParticipantUnreadRow(cp.user.id, cp.unreadCount) " +
+            "FROM ChatParticipants cp " +
+            "WHERE cp.chatRoom.id = :chatRoomId")
+    List<ChatParticipantUnreadRow> findUnreadCounts(@Param("chatRoomId") Long chatRoomId);
+
+    // 읽음 처리 (더 최신 메시지까지 읽은 경우에만 반영)
+    // 안읽은 메시지 수는 0이 아니라 읽은 메시지 이후 다른 사람이 보낸 메시지 수로 설정
+    // (최신 메시지 조회 후 읽음 처리 전에 커밋된 메시지의 증가분을 지우지 않음, 탈퇴한 사용자의 메시지 포함)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatParticipants cp " +
+            "SET cp.lastReadMessageId = :messageId, " +
+            "cp.unreadCount = (SELECT COUNT(m) FROM ChatMessage m " +
+            "WHERE m.chatRoom.id = :chatRoomId " +
+            "AND m.id > :messageId " +
+            "AND (m.user IS NULL OR m.user.id <> :userId)) " +
+            "WHERE cp.chatRoom.id = :chatRoomId " +
+            "AND cp.user.id = :userId " +
+            "AND cp.lastReadMessageId < :messageId")
+    int markAsRead(@Param("chatRoomId") Long chatRoomId,
+                   @Param("userId") Long userId,
+                   @Param("messageId") Long messageId);
 }
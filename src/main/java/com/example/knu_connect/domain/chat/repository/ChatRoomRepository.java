@@ -1,26 +1,58 @@
 package com.example.knu_connect.domain.chat.repository;
 
+import com.example.knu_connect.domain.chat.dto.projection.ChatRoomInboxRow;
 import com.example.knu_connect.domain.chat.entitiy.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
-    @Query("SELECT DISTINCT cr FROM ChatRoom cr " +
-            "JOIN cr.participants p " +
+    // 채팅방 목록(인박스) 조회: 네트워킹 제목, 최근 메시지 요약, 안읽은 메시지 수를 한 번에 조회 (최근 대화순 정렬)
+    @Query("SELECT new com.example.knu_connect.domain.chat.dto.projection.ChatRoomInboxRow(" +
+            "cr.id, n.title, cr.lastMessagePreview, COALESCE(cr.lastMessageAt, cr.createdAt), p.unreadCount) " +
+            "FROM ChatParticipants p " +
+            "JOIN p.chatRoom cr " +
+            "LEFT JOIN Networking n ON n.chatRoom = cr " +
             "WHERE p.user.id = :userId " +
-            "ORDER BY cr.createdAt DESC")
-    List<ChatRoom> findAllByUserId(@Param("userId") Long userId);
+            "ORDER BY COALESCE(cr.lastMessageAt, cr.createdAt) DESC, cr.id DESC")
+    List<ChatRoomInboxRow> findInboxByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT DISTINCT cr FROM ChatRoom cr " +
-            "JOIN FETCH cr.participants p " +
-            "JOIN FETCH p.user " +
-            "WHERE cr.id IN :chatRoomIds")
-    List<ChatRoom> findAllWithParticipantsAndUsers(@Param("chatRoomIds") List<Long> chatRoomIds);
+    // 최근 메시지 요약 갱신 (더 최신 메시지인 경우에만 반영하여 동시 전송 시에도 역행하지 않음)
+    @Modifying
+    @Query("UPDATE ChatRoom cr " +
+            "SET cr.lastMessageId = :messageId, " +
+            "cr.lastMessagePreview = :preview, " +
+            "cr.lastMessageSenderId = :senderId, " +
+            "cr.lastMessageAt = :sentAt " +
+            "WHERE cr.id = :chatRoomId " +
+            "AND (cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId)")
+    int updateLastMessage(@Param("chatRoomId") Long chatRoomId,
+                          @Param("messageId") Long messageId,
+                          @Param("preview") String preview,
+                          @Param("senderId") Long senderId,
+                          @Param("sentAt") LocalDateTime sentAt);
+
+    // 삭제된 메시지가 최근 메시지였던 경우에만 요약 교체 (그 사이 새 메시지가 반영됐다면 무시)
+    @Modifying
+    @Query("UPDATE ChatRoom cr " +
+            "SET cr.lastMessageId = :messageId, " +
+            "cr.lastMessagePreview = :preview, " +
+            "cr.lastMessageSenderId = :senderId, " +
+            "cr.lastMessageAt = :sentAt " +
+            "WHERE cr.id = :chatRoomId " +
+            "AND cr.lastMessageId = :deletedMessageId")
+    int replaceLastMessage(@Param("chatRoomId") Long chatRoomId,
+                           @Param("deletedMessageId") Long deletedMessageId,
+                           @Param("messageId") Long messageId,
+                           @Param("preview") String preview,
+                           @Param("senderId") Long senderId,
+                           @Param("sentAt") LocalDateTime sentAt);
 
     @Query("SELECT cr FROM ChatRoom cr " +
             "JOIN cr.participants p1 " +
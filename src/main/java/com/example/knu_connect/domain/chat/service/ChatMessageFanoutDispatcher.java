@@ -0,0 +1,317 @@
+package com.example.knu_connect.domain.chat.service;
+
+import com.example.knu_connect.domain.chat.dto.projection.ChatParticipantUnreadRow;
+import com.example.knu_connect.domain.chat.dto.response.UnreadCountNotificationDto;
+import com.example.knu_connect.domain.chat.event.ChatMessageSentEvent;
+import com.example.knu_connect.domain.chat.repository.ChatParticipantsRepository;
+import com.example.knu_connect.global.websocket.StompBroadcaster;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+// 메시지 저장 트랜잭션 커밋 이후 브로드캐스트, 보낸 사람 읽음 처리, 안읽은 메시지 수 알림 처리
+// - 채팅방 ID로 파티션을 나눠 채팅방 내 메시지 순서 유지, 워커는 큐에 쌓인 이벤트를 묶어서 처리
+// - 큐가 가득 차면 offer-timeout-ms까지만 기다린 뒤 같은 파티션의 overflow 목록에 추가 (유실 없음)
+//   커밋 이후 콜백은 요청 스레드가 DB 커넥션을 아직 반납하지 않은 상태이므로 무기한 대기하지 않음
+//   overflow가 비어 있지 않으면 이후 이벤트도 overflow에 넣고, 워커는 큐(먼저 들어온 이벤트)를 비운 뒤 overflow 처리
+// - 시작 전이거나 종료된 뒤에는 남은 이벤트와 함께 호출 스레드에서 처리 (유실 없음)
+// - 커밋 이후 콜백에서는 기존 트랜잭션에 쓰기를 합류시킬 수 없으므로 읽음 처리는 항상 새 트랜잭션에서 실행
+@Slf4j
+@Component
+public class ChatMessageFanoutDispatcher implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final StompBroadcaster stompBroadcaster;
+    private final ChatPresenceCache chatPresenceCache;
+    private final ChatParticipantsRepository chatParticipantsRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final List<Partition> partitions;
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public ChatMessageFanoutDispatcher(StompBroadcaster stompBroadcaster,
+                                       ChatPresenceCache chatPresenceCache,
+                                       ChatParticipantsRepository chatParticipantsRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${chat.fanout.workers:4}") int workerCount,
+                                       @Value("${chat.fanout.queue-capacity:1000}") int queueCapacity,
+                                       @Value("${chat.fanout.batch-size:100}") int batchSize,
+                                       @Value("${chat.fanout.offer-timeout-ms:200}") long offerTimeoutMillis) {
+        this.stompBroadcaster = stompBroadcaster;
+        this.chatPresenceCache = chatPresenceCache;
+        this.chatParticipantsRepository = chatParticipantsRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        List<Partition> created = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            created.add(new Partition(queueCapacity));
+        }
+        this.partitions = List.copyOf(created);
+
+        Gauge.builder("chat.fanout.queued", partitions,
+                        list -> list.stream().mapToInt(partition -> partition.queue.size()).sum())
+                .register(meterRegistry);
+        Gauge.builder("chat.fanout.overflow", partitions,
+                        list -> list.stream().mapToInt(Partition::overflowSize).sum())
+                .register(meterRegistry);
+    }
+
+    // 커밋된 메시지만 전파 (롤백된 메시지는 브로드캐스트하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        dispatch(event);
+    }
+
+    public void dispatch(ChatMessageSentEvent event) {
+        Partition partition = partitionOf(event.chatRoomId());
+        if (running) {
+            enqueue(partition, event);
+            // 큐에 넣는 사이 종료가 시작됐다면 워커가 놓쳤을 수 있는 이벤트 처리
+            if (!running) {
+                fanOutOnCaller(partition, null);
+            }
+            return;
+        }
+
+        // 시작 전이거나 종료 중이면 호출 스레드에서 직접 처리
+        fanOutOnCaller(partition, event);
+    }
+
+    // 같은 파티션 큐에 최대 offer-timeout-ms만 기다려 넣고, 실패하면 overflow에 추가
+    private void enqueue(Partition partition, ChatMessageSentEvent event) {
+        if (partition.appendIfOverflowing(event)) {
+            return;
+        }
+
+        try {
+            if (partition.queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        partition.appendOverflow(event);
+        log.warn("Chat fan-out queue is full, message {} moved to overflow ({} pending)",
+                event.messageId(), partition.overflowSize());
+    }
+
+    // 워커가 모두 끝난 뒤 파티션에 남은 이벤트를 먼저 처리해 채팅방 내 순서 유지
+    private void fanOutOnCaller(Partition partition, ChatMessageSentEvent event) {
+        awaitWorkerTermination();
+
+        synchronized (partition) {
+            List<ChatMessageSentEvent> pending = new ArrayList<>();
+            partition.drainAll(pending);
+            if (event != null) {
+                pending.add(event);
+            }
+            if (!pending.isEmpty()) {
+                fanOut(pending);
+            }
+        }
+    }
+
+    private void awaitWorkerTermination() {
+        ExecutorService current = workers;
+        if (current == null || !current.isShutdown()) {
+            return;
+        }
+
+        try {
+            if (!current.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Chat fan-out workers did not finish within {}s", SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        workers = Executors.newFixedThreadPool(partitions.size(), new CustomizableThreadFactory("chat-fanout-"));
+        running = true;
+        partitions.forEach(partition -> workers.execute(() -> drain(partition)));
+    }
+
+    @Override
+    public void stop() {
+        if (workers == null) {
+            return;
+        }
+
+        running = false;
+        workers.shutdown();
+
+        // 종료 직전에 들어온 이벤트 처리
+        partitions.forEach(partition -> fanOutOnCaller(partition, null));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 파티션을 비울 때까지 배치 단위로 처리 (종료 시 남은 이벤트까지 처리)
+    private void drain(Partition partition) {
+        List<ChatMessageSentEvent> batch = new ArrayList<>(batchSize);
+
+        while (running || !partition.isEmpty()) {
+            try {
+                partition.take(batch, batchSize);
+                if (batch.isEmpty()) {
+                    ChatMessageSentEvent first = partition.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    partition.queue.drainTo(batch, batchSize - 1);
+                }
+                fanOut(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // 인터럽트로 빠져나온 경우에도 남은 이벤트 처리
+        partition.drainAll(batch);
+        if (!batch.isEmpty()) {
+            fanOut(batch);
+        }
+    }
+
+    private void fanOut(List<ChatMessageSentEvent> batch) {
+        Map<Long, List<ChatMessageSentEvent>> eventsByChatRoom = batch.stream()
+                .collect(Collectors.groupingBy(ChatMessageSentEvent::chatRoomId, LinkedHashMap::new, Collectors.toList()));
+
+        eventsByChatRoom.forEach((chatRoomId, events) -> {
+            try {
+                fanOutChatRoom(chatRoomId, events);
+            } catch (Exception e) {
+                log.error("Failed to fan out {} messages for chat room {}", events.size(), chatRoomId, e);
+            }
+        });
+    }
+
+    private void fanOutChatRoom(Long chatRoomId, List<ChatMessageSentEvent> events) {
+        // WebSocket으로 메시지 브로드캐스트 (저장 순서대로)
+        events.forEach(event ->
+                stompBroadcaster.sendToTopic("/topic/chat-rooms/" + chatRoomId, event.message()));
+
+        // 참여자별 안읽은 메시지 수와 활성화 상태를 채팅방당 한 번씩 조회
+        List<ChatParticipantUnreadRow> participants = chatParticipantsRepository.findUnreadCounts(chatRoomId);
+        Set<Long> activeUserIds = chatPresenceCache.findActiveUserIds(chatRoomId,
+                participants.stream().map(ChatParticipantUnreadRow::userId).toList());
+
+        // 메시지를 보낸 사용자가 채팅방을 열고 있다면 보낸 최신 메시지까지 읽음 처리
+        Map<Long, Long> latestMessageIdBySender = events.stream()
+                .collect(Collectors.toMap(ChatMessageSentEvent::senderId, ChatMessageSentEvent::messageId, Math::max));
+
+        Map<Long, Long> readUpdates = latestMessageIdBySender.entrySet().stream()
+                .filter(entry -> activeUserIds.contains(entry.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        if (!readUpdates.isEmpty()) {
+            requiresNewTransaction.executeWithoutResult(status -> readUpdates.forEach((senderId, messageId) ->
+                    chatParticipantsRepository.markAsRead(chatRoomId, senderId, messageId)));
+        }
+
+        // 채팅방을 열고 있지 않은 수신자에게 안읽은 메세지 수 전송
+        Set<Long> senderIds = latestMessageIdBySender.keySet();
+        participants.stream()
+                .filter(row -> !(senderIds.size() == 1 && senderIds.contains(row.userId())))
+                .filter(row -> !activeUserIds.contains(row.userId()))
+                .forEach(row -> notifyUnreadCount(chatRoomId, row));
+    }
+
+    private void notifyUnreadCount(Long chatRoomId, ChatParticipantUnreadRow row) {
+        UnreadCountNotificationDto notification = new UnreadCountNotificationDto(
+                chatRoomId,
+                row.unreadCount()
+        );
+
+        stompBroadcaster.sendToUser(
+                row.userId(),
+                "/queue/chat-rooms/" + chatRoomId + "/unread",
+                notification
+        );
+
+        log.debug("Sent unread count notification to user {}: {}", row.userId(), row.unreadCount());
+    }
+
+    private Partition partitionOf(Long chatRoomId) {
+        return partitions.get((int) Math.floorMod(chatRoomId, (long) partitions.size()));
+    }
+
+    // 파티션 큐와 큐가 가득 찼을 때 넘친 이벤트 목록 (overflow는 파티션 락으로 보호)
+    // overflow가 비어 있지 않은 동안 들어온 이벤트는 모두 overflow 뒤에 붙으므로 큐의 이벤트가 항상 먼저 들어온 이벤트
+    private static final class Partition {
+
+        private final BlockingQueue<ChatMessageSentEvent> queue;
+        private final Deque<ChatMessageSentEvent> overflow = new ArrayDeque<>();
+
+        private Partition(int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        synchronized boolean appendIfOverflowing(ChatMessageSentEvent event) {
+            if (overflow.isEmpty()) {
+                return false;
+            }
+            overflow.addLast(event);
+            return true;
+        }
+
+        synchronized void appendOverflow(ChatMessageSentEvent event) {
+            overflow.addLast(event);
+        }
+
+        synchronized int overflowSize() {
+            return overflow.size();
+        }
+
+        synchronized boolean isEmpty() {
+            return queue.isEmpty() && overflow.isEmpty();
+        }
+
+        // 큐를 먼저 비우고, 큐가 비어 있으면 overflow에서 꺼냄
+        synchronized void take(List<ChatMessageSentEvent> batch, int maxSize) {
+            queue.drainTo(batch, maxSize);
+            while (batch.size() < maxSize && queue.isEmpty() && !overflow.isEmpty()) {
+                batch.add(overflow.pollFirst());
+            }
+        }
+
+        synchronized void drainAll(List<ChatMessageSentEvent> batch) {
+            queue.drainTo(batch);
+            batch.addAll(overflow);
+            overflow.clear();
+        }
+    }
+}
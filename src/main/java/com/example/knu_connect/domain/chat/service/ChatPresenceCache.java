@@ -0,0 +1,97 @@
+package com.example.knu_connect.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+// 채팅방 접속 상태 로컬 캐시 (RedisChatManager 앞단)
+// - 채팅방별 활성 사용자 목록을 짧은 TTL 동안 인스턴스 메모리에 보관
+// - 입장/퇴장 이벤트(Redis Pub/Sub)를 받으면 해당 채팅방 항목을 무효화하여 인스턴스 간 일관성 유지
+// - Pub/Sub 메시지를 놓치더라도 TTL이 지나면 Redis에서 다시 조회
+// - Redis 조회는 캐시 내부 락(ConcurrentHashMap.compute) 밖의 애플리케이션 task executor에서 실행
+//   (가상 스레드 모드에서는 가상 스레드로 실행되어 pinning 방지, 종료는 스프링이 관리)
+@Slf4j
+@Component
+public class ChatPresenceCache implements MessageListener {
+
+    public static final String CACHE_NAME = "chat.presence";
+
+    private final RedisChatManager redisChatManager;
+    private final AsyncCache<Long, Set<Long>> activeUsersByChatRoom;
+
+    public ChatPresenceCache(RedisChatManager redisChatManager,
+                             RedisMessageListenerContainer listenerContainer,
+                             MeterRegistry meterRegistry,
+                             @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor loaderExecutor,
+                             @Value("${chat.presence.cache.ttl-ms:2000}") long ttlMillis,
+                             @Value("${chat.presence.cache.maximum-size:10000}") long maximumSize) {
+        this.redisChatManager = redisChatManager;
+        this.activeUsersByChatRoom = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .maximumSize(maximumSize)
+                .executor(loaderExecutor)
+                .recordStats()
+                .buildAsync();
+
+        // 히트/미스, 적재 시간, 제거 건수 메트릭 등록 (cache.gets{cache=chat.presence, result=hit|miss} 등)
+        CaffeineCacheMetrics.monitor(meterRegistry, activeUsersByChatRoom, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisChatManager.PRESENCE_CHANNEL));
+    }
+
+    // 주어진 사용자 중 채팅방에서 활성화 상태인 사용자 ID 목록 조회
+    public Set<Long> findActiveUserIds(Long chatRoomId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        CompletableFuture<Set<Long>> cached = activeUsersByChatRoom.get(chatRoomId, (id, executor) ->
+                CompletableFuture.supplyAsync(() -> Set.copyOf(redisChatManager.findActiveUserIds(id)), executor));
+        Set<Long> activeUserIds;
+        try {
+            activeUserIds = cached.join();
+        } catch (CompletionException e) {
+            // 실패한 조회 결과가 남아 다음 요청에 재사용되지 않도록 바로 제거
+            activeUsersByChatRoom.asMap().remove(chatRoomId, cached);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return userIds.stream()
+                .filter(activeUserIds::contains)
+                .collect(Collectors.toSet());
+    }
+
+    // 입장/퇴장 이벤트 수신 시 해당 채팅방 캐시 무효화 ("{채팅방ID}:{사용자ID}:{OPEN|CLOSE}")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String event = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            Long chatRoomId = Long.valueOf(event.substring(0, event.indexOf(':')));
+            activeUsersByChatRoom.synchronous().invalidate(chatRoomId);
+        } catch (RuntimeException e) {
+            log.warn("Ignored malformed presence event: {}", event);
+        }
+    }
+}
@@ -1,31 +1,33 @@
 package com.example.knu_connect.domain.chat.service;
 
+import com.example.knu_connect.domain.chat.dto.projection.ChatRoomInboxRow;
+import com.example.knu_connect.domain.chat.dto.projection.ChatRoomMemberNameRow;
 import com.example.knu_connect.domain.chat.entitiy.ChatMessage;
 import com.example.knu_connect.domain.chat.entitiy.ChatParticipants;
 import com.example.knu_connect.domain.chat.entitiy.ChatRoom;
 import com.example.knu_connect.domain.chat.dto.request.ChatMessageSendRequestDto;
 import com.example.knu_connect.domain.chat.dto.request.ChatRoomCreateRequestDto;
 import com.example.knu_connect.domain.chat.dto.response.*;
+import com.example.knu_connect.domain.chat.event.ChatMessageSentEvent;
 import com.example.knu_connect.domain.chat.repository.ChatMessageRepository;
 import com.example.knu_connect.domain.chat.repository.ChatParticipantsRepository;
 import com.example.knu_connect.domain.chat.repository.ChatRoomRepository;
-import com.example.knu_connect.domain.networking.entitiy.Networking;
 import com.example.knu_connect.domain.networking.repository.NetworkingRepository;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
+import com.example.knu_connect.global.websocket.StompBroadcaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -38,9 +40,10 @@ public class ChatServiceImpl implements ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final ChatParticipantsRepository chatParticipantsRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompBroadcaster stompBroadcaster;
     private final RedisChatManager redisChatManager;
     private final NetworkingRepository networkingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 멘토 찾기에서 대화 시작 시 1대1 채팅방 생성
     @Override
@@ -111,18 +114,22 @@ public class ChatServiceImpl implements ChatService {
 
         chatMessageRepository.save(message);
 
-        ChatMessageResponseDto response = ChatMessageResponseDto.from(message);
+        // 채팅방 최근 메시지 요약 갱신 (메시지 저장과 같은 트랜잭션)
+        chatRoomRepository.updateLastMessage(
+                chatRoomId,
+                message.getId(),
+                ChatRoom.toPreview(message.getContents()),
+                userId,
+                message.getCreatedAt()
+        );
 
-        // WebSocket으로 메시지 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/chat-rooms/" + chatRoomId, response);
+        // 보낸 사람을 제외한 참여자의 안읽은 메시지 수 증가
+        chatParticipantsRepository.incrementUnreadCount(chatRoomId, userId);
 
-        // 메시지를 보낸 사용자가 채팅방을 열고 있다면 lastReadMessageId 업데이트
-        if (redisChatManager.isUserActive(chatRoomId, userId)) {
-            updateLastReadMessageId(userId, chatRoomId, message.getId());
-        }
+        ChatMessageResponseDto response = ChatMessageResponseDto.from(message);
 
-        // 상대방이 채팅방을 열고 있지 않으면 읽지 않은 메세지 수 전송
-        notifyUnreadCountToInactiveUsers(chatRoom, userId);
+        // 브로드캐스트와 안읽은 메시지 수 알림은 커밋 이후 비동기로 처리
+        eventPublisher.publishEvent(new ChatMessageSentEvent(chatRoomId, response));
 
         return response;
     }
@@ -167,56 +174,45 @@ public class ChatServiceImpl implements ChatService {
     @Override
     public ChatRoomListResponseDto getChatRoomList(Long userId) {
 
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllByUserId(userId);
+        // 제목 원천(네트워킹 제목), 최근 메시지, 안읽은 메시지 수를 한 번에 조회 (최근 대화순 정렬)
+        List<ChatRoomInboxRow> rows = chatRoomRepository.findInboxByUserId(userId);
 
-        if (chatRooms.isEmpty()) {
+        if (rows.isEmpty()) {
             return new ChatRoomListResponseDto(List.of());
         }
 
-        List<Long> chatRoomIds = chatRooms.stream()
-                .map(ChatRoom::getId)
-                .collect(Collectors.toList());
-
-        List<ChatRoom> chatRoomsWithUsers = chatRoomRepository.findAllWithParticipantsAndUsers(chatRoomIds);
-
-        List<ChatRoomListResponseDto.ChatRoomInfo> chatRoomInfos = chatRoomsWithUsers.stream()
-                .map(chatRoom -> {
-                    String title;
-
-                    // 네트워킹 채팅방인지 확인
-                    Networking networking = networkingRepository.findByChatRoomId(chatRoom.getId())
-                            .orElse(null);
-
-                    if (networking != null) {
-                        // 네트워킹 채팅방인 경우: 네트워킹 제목 사용
-                        title = networking.getTitle();
-                    } else {
-                        // 멘토/일반 1:1 채팅방인 경우: 상대방 이름 사용
-                        title = chatRoom.getParticipants().stream()
-                                .filter(p -> !p.getUserId().equals(userId))
-                                .map(p -> p.getUser().getName())
-                                .collect(Collectors.joining(", "));
-
-                        if (title.isEmpty() || title.isBlank()) {
-                            title = "알 수 없음";
-                        }
+        // 네트워킹 채팅방이 아닌 경우에만 상대방 이름으로 제목 생성
+        List<Long> directChatRoomIds = rows.stream()
+                .filter(row -> row.networkingTitle() == null)
+                .map(ChatRoomInboxRow::chatRoomId)
+                .toList();
+
+        Map<Long, String> memberNames = directChatRoomIds.isEmpty()
+                ? Map.of()
+                : chatParticipantsRepository.findOtherMemberNames(directChatRoomIds, userId).stream()
+                        .collect(Collectors.groupingBy(
+                                ChatRoomMemberNameRow::chatRoomId,
+                                Collectors.mapping(ChatRoomMemberNameRow::name, Collectors.joining(", "))
+                        ));
+
+        List<ChatRoomListResponseDto.ChatRoomInfo> chatRoomInfos = rows.stream()
+                .map(row -> {
+                    String title = row.networkingTitle() != null
+                            ? row.networkingTitle()
+                            : memberNames.getOrDefault(row.chatRoomId(), "");
+
+                    if (title.isBlank()) {
+                        title = "알 수 없음";
                     }
 
-                    ChatMessage recentMessage = chatMessageRepository
-                            .findFirstByChatRoomIdOrderByCreatedAtDesc(chatRoom.getId())
-                            .orElse(null);
-
-                    Long unreadCount = calculateUnreadCount(userId, chatRoom.getId());
-
                     return new ChatRoomListResponseDto.ChatRoomInfo(
-                            chatRoom.getId(),
+                            row.chatRoomId(),
                             title,
-                            unreadCount,
-                            recentMessage != null ? recentMessage.getContents() : "",
-                            recentMessage != null ? recentMessage.getCreatedAt() : chatRoom.getCreatedAt()
+                            row.unreadCount(),
+                            row.recentMessage() != null ? row.recentMessage() : "",
+                            row.recentDate()
                     );
                 })
-                .sorted(Comparator.comparing(ChatRoomListResponseDto.ChatRoomInfo::recentDate).reversed())
                 .collect(Collectors.toList());
 
         return new ChatRoomListResponseDto(chatRoomInfos);
@@ -233,12 +229,22 @@ public class ChatServiceImpl implements ChatService {
             throw new BusinessException(ErrorCode.FORBIDDEN_DELETE_MESSAGE);
         }
 
+        ChatRoom chatRoom = message.getChatRoom();
+
         // 메시지 삭제
         chatMessageRepository.delete(message);
 
+        // 삭제된 메시지를 아직 읽지 않은 참여자의 안읽은 메시지 수 감소
+        chatParticipantsRepository.decrementUnreadCount(chatRoom.getId(), userId, chatId);
+
+        // 최근 메시지가 삭제된 경우 남은 메시지 중 가장 최근 메시지로 요약 교체
+        if (chatId.equals(chatRoom.getLastMessageId())) {
+            replaceLastMessage(chatRoom.getId(), chatId);
+        }
+
         // WebSocket으로 삭제 알림
         MessageDeletedResponseDto response = new MessageDeletedResponseDto(chatId);
-        messagingTemplate.convertAndSend("/topic/chat-rooms/" + chatRoomId + "/updates", response);
+        stompBroadcaster.sendToTopic("/topic/chat-rooms/" + chatRoomId + "/updates", response);
     }
 
     @Override
@@ -254,8 +260,8 @@ public class ChatServiceImpl implements ChatService {
 
         chatRoom.getParticipants().remove(participantToRemove);
 
-        networkingRepository.findByChatRoomId(chatRoomId)
-                .ifPresent(Networking::leave);
+        // 네트워킹 채팅방이면 현재 인원 감소 (동시 참여와 겹쳐도 인원이 유실되지 않도록 DB에서 감소)
+        networkingRepository.decreaseCurNumberByChatRoomId(chatRoomId);
 
         if (chatRoom.getParticipants().isEmpty()) {
             networkingRepository.findByChatRoomId(chatRoomId)
@@ -280,9 +286,10 @@ public class ChatServiceImpl implements ChatService {
         // Redis에 활성화 표시
         redisChatManager.markUserActive(chatRoomId, userId);
 
-        // 가장 최근 메시지 ID로 lastReadMessageId 업데이트
+        // 가장 최근 메시지까지 읽음 처리 (조건부 UPDATE로 동시 전송/읽음 처리와 겹쳐도 되돌리지 않음)
+        // 조회 이후 커밋된 메시지는 안읽은 메시지로 남음
         Long latestMessageId = chatMessageRepository.findLatestMessageId(chatRoomId).orElse(0L);
-        updateLastReadMessageId(userId, chatRoomId, latestMessageId);
+        chatParticipantsRepository.markAsRead(chatRoomId, userId, latestMessageId);
 
         log.info("User {} opened chat room {}", userId, chatRoomId);
     }
@@ -376,54 +383,22 @@ public class ChatServiceImpl implements ChatService {
 
     // ========== Private Helper Methods ==========
 
-    // 안읽은 메시지 수 계산
-    private Long calculateUnreadCount(Long userId, Long chatRoomId) {
-        ChatParticipants participant = chatParticipantsRepository
-                .findByUserIdAndChatRoomId(userId, chatRoomId)
-                .orElse(null);
-
-        if (participant == null) {
-            return 0L;
-        }
-
-        Long lastReadMessageId = participant.getLastReadMessageId();
-        return chatMessageRepository.countUnreadMessages(chatRoomId, lastReadMessageId, userId);
-    }
-
-
-    // lastReadMessageId 업데이트
-    @Transactional
-    public void updateLastReadMessageId(Long userId, Long chatRoomId, Long messageId) {
-        ChatParticipants participant = chatParticipantsRepository
-                .findByUserIdAndChatRoomId(userId, chatRoomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
 
-        participant.updateLastReadMessageId(messageId);
-        chatParticipantsRepository.save(participant);
-
-        log.debug("Updated lastReadMessageId for user {} in chat room {} to {}", userId, chatRoomId, messageId);
-    }
-
-
-    // 비활성 사용자들에게 안읽은 메시지 수 알림
-    private void notifyUnreadCountToInactiveUsers(ChatRoom chatRoom, Long senderUserId) {
-        chatRoom.getParticipants().stream()
-                .filter(participant -> !participant.getUserId().equals(senderUserId))
-                .filter(participant -> !redisChatManager.isUserActive(chatRoom.getId(), participant.getUserId()))
-                .forEach(participant -> {
-                    Long unreadCount = calculateUnreadCount(participant.getUserId(), chatRoom.getId());
-                    UnreadCountNotificationDto notification = new UnreadCountNotificationDto(
-                            chatRoom.getId(),
-                            unreadCount
-                    );
-
-                    messagingTemplate.convertAndSendToUser(
-                            participant.getUserId().toString(),
-                            "/queue/chat-rooms/" + chatRoom.getId() + "/unread",
-                            notification
-                    );
-
-                    log.debug("Sent unread count notification to user {}: {}", participant.getUserId(), unreadCount);
-                });
+    // 최근 메시지 요약 재계산 (남은 메시지가 없으면 요약 비움)
+    private void replaceLastMessage(Long chatRoomId, Long deletedMessageId) {
+        chatMessageRepository.findFirstByChatRoomIdOrderByIdDesc(chatRoomId)
+                .ifPresentOrElse(
+                        latest -> chatRoomRepository.replaceLastMessage(
+                                chatRoomId,
+                                deletedMessageId,
+                                latest.getId(),
+                                ChatRoom.toPreview(latest.getContents()),
+                                latest.getUserId(),
+                                latest.getCreatedAt()
+                        ),
+                        () -> chatRoomRepository.replaceLastMessage(
+                                chatRoomId, deletedMessageId, null, null, null, null
+                        )
+                );
     }
 }
@@ -1,53 +1,150 @@
 package com.example.knu_connect.domain.chat.service;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
-import org.springframework.stereotype.Service;
 
+import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+// 채팅방 접속(활성화) 상태 관리
+// - chat:presence:room:{채팅방ID} : 채팅방을 보고 있는 사용자 (ZSET, member=사용자ID, score=마지막 heartbeat 시각)
+// - chat:presence:user:{사용자ID} : 사용자가 보고 있는 채팅방 (ZSET, member=채팅방ID, score=마지막 heartbeat 시각)
+// heartbeat가 5분 이상 끊긴 멤버는 조회 시 정리하고, 아무도 없는 키는 TTL로 만료
+// 입장/퇴장 시 chat:presence:events 채널로 "{채팅방ID}:{사용자ID}:{OPEN|CLOSE}" 발행 (로컬 캐시 무효화용)
 @Component
 @RequiredArgsConstructor
 public class RedisChatManager {
 
+    public static final String PRESENCE_CHANNEL = "chat:presence:events";
+
     private final RedisTemplate<String, String> redisTemplate;
-    
-    private static final String ACTIVE_USER_PREFIX = "chat:active:";
+
+    private static final String ROOM_PRESENCE_PREFIX = "chat:presence:room:";
+    private static final String USER_PRESENCE_PREFIX = "chat:presence:user:";
     private static final long ACTIVITY_TIMEOUT_MINUTES = 5;
 
+    // KEYS: 채팅방 키, 사용자 키 / ARGV: 사용자ID, 채팅방ID, 현재 시각, TTL(초), 이벤트 채널
+    private static final RedisScript<Long> MARK_ACTIVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "redis.call('PUBLISH', ARGV[5], ARGV[2] .. ':' .. ARGV[1] .. ':OPEN') " +
+            "return 1",
+            Long.class);
+
+    // KEYS: 채팅방 키, 사용자 키 / ARGV: 사용자ID, 채팅방ID, 이벤트 채널
+    private static final RedisScript<Long> MARK_INACTIVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "redis.call('ZREM', KEYS[2], ARGV[2]) " +
+            "redis.call('PUBLISH', ARGV[3], ARGV[2] .. ':' .. ARGV[1] .. ':CLOSE') " +
+            "return 1",
+            Long.class);
+
+    // 만료되지 않은 멤버만 갱신 (만료 후 heartbeat로 다시 활성화되지 않도록 함)
+    // KEYS: 채팅방 키, 사용자 키 / ARGV: 사용자ID, 채팅방ID, 현재 시각, TTL(초), 만료 기준 시각
+    private static final RedisScript<Long> REFRESH_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not score or tonumber(score) < tonumber(ARGV[5]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], 'XX', ARGV[3], ARGV[1]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    // 만료된 멤버를 정리한 뒤 남은 멤버 조회
+    // KEYS: 채팅방 키 또는 사용자 키 / ARGV: 만료 기준 시각
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List> ACTIVE_MEMBERS_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[1]) " +
+            "return redis.call('ZRANGE', KEYS[1], 0, -1)",
+            List.class);
+
 
     // 채팅방에 사용자가 활성화 상태임을 표시 (5분)
     public void markUserActive(Long chatRoomId, Long userId) {
-        String key = getActiveUserKey(chatRoomId, userId);
-        redisTemplate.opsForValue().set(key, "active", ACTIVITY_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        redisTemplate.execute(MARK_ACTIVE_SCRIPT,
+                List.of(getRoomKey(chatRoomId), getUserKey(userId)),
+                userId.toString(), chatRoomId.toString(), String.valueOf(now()), String.valueOf(timeoutSeconds()),
+                PRESENCE_CHANNEL);
     }
 
 
     // 채팅방에서 사용자 활성화 상태 제거
     public void markUserInactive(Long chatRoomId, Long userId) {
-        String key = getActiveUserKey(chatRoomId, userId);
-        redisTemplate.delete(key);
+        redisTemplate.execute(MARK_INACTIVE_SCRIPT,
+                List.of(getRoomKey(chatRoomId), getUserKey(userId)),
+                userId.toString(), chatRoomId.toString(), PRESENCE_CHANNEL);
     }
 
 
-    // 사용자가 채팅방에서 활성화 상태인지 확인
-    public boolean isUserActive(Long chatRoomId, Long userId) {
-        String key = getActiveUserKey(chatRoomId, userId);
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    // 채팅방에서 활성화 상태인 사용자 ID 목록 조회
+    public Set<Long> findActiveUserIds(Long chatRoomId) {
+        return findActiveMembers(getRoomKey(chatRoomId));
     }
 
 
-    // 채팅방 활성화 상태 갱신 (TTL 연장)
+    // 주어진 사용자 중 채팅방에서 활성화 상태인 사용자 ID 목록 조회 (Redis 호출 한 번)
+    public Set<Long> findActiveUserIds(Long chatRoomId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> activeUserIds = findActiveUserIds(chatRoomId);
+        activeUserIds.retainAll(userIds);
+        return activeUserIds;
+    }
+
+
+    // 사용자가 보고 있는 채팅방 ID 목록 조회
+    public Set<Long> findViewingChatRoomIds(Long userId) {
+        return findActiveMembers(getUserKey(userId));
+    }
+
+
+    // 채팅방 활성화 상태 갱신 (heartbeat 시각 갱신, 만료된 경우 아무 일도 하지 않음)
+    // 멤버 구성이 바뀌지 않으므로 이벤트는 발행하지 않음
     public void refreshUserActivity(Long chatRoomId, Long userId) {
-        String key = getActiveUserKey(chatRoomId, userId);
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
-            redisTemplate.expire(key, ACTIVITY_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        redisTemplate.execute(REFRESH_SCRIPT,
+                List.of(getRoomKey(chatRoomId), getUserKey(userId)),
+                userId.toString(), chatRoomId.toString(), String.valueOf(now()),
+                String.valueOf(timeoutSeconds()), String.valueOf(cutoff()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> findActiveMembers(String key) {
+        List<String> members = redisTemplate.execute(ACTIVE_MEMBERS_SCRIPT, List.of(key), String.valueOf(cutoff()));
+        if (members == null) {
+            return new HashSet<>();
         }
+
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private long now() {
+        return System.currentTimeMillis();
+    }
+
+    private long cutoff() {
+        return now() - TimeUnit.MINUTES.toMillis(ACTIVITY_TIMEOUT_MINUTES);
+    }
+
+    private long timeoutSeconds() {
+        return TimeUnit.MINUTES.toSeconds(ACTIVITY_TIMEOUT_MINUTES);
+    }
+
+    private String getRoomKey(Long chatRoomId) {
+        return ROOM_PRESENCE_PREFIX + chatRoomId;
     }
 
-    private String getActiveUserKey(Long chatRoomId, Long userId) {
-        return ACTIVE_USER_PREFIX + chatRoomId + ":" + userId;
+    private String getUserKey(Long userId) {
+        return USER_PRESENCE_PREFIX + userId;
     }
 }
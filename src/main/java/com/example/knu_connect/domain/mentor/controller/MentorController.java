@@ -3,6 +3,7 @@ package com.example.knu_connect.domain.mentor.controller;
 import com.example.knu_connect.domain.mentor.service.MentorService;
 import com.example.knu_connect.domain.mentor.dto.response.MentorDetailResponseDto;
 import com.example.knu_connect.domain.mentor.dto.response.MentorListResponseDto;
+import com.example.knu_connect.domain.mentor.dto.response.MentorScrollResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -55,6 +56,38 @@ public class MentorController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "멘토 목록 커서 조회",
+            description = "멘토 목록을 최근 가입순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = MentorScrollResponseDto.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기", content = @Content)
+    })
+    @Parameters({
+            @Parameter(name = "career", description = "진로 필터", example = "employment", schema = @Schema(allowableValues = {"employment", "startup", "matriculation"})),
+            @Parameter(name = "interest", description = "관심 분야 필터", example = "backend", schema = @Schema(allowableValues = {"frontend", "backend", "data", "ai", "security"})),
+            @Parameter(name = "keyword", description = "검색 키워드", example = "백엔드"),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (없으면 처음부터)", example = "MjAyNC0wMS0xNVQxMDozMDowMHw0Mg"),
+            @Parameter(name = "size", description = "조회할 멘토 수 (최대 100)", example = "10")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<MentorScrollResponseDto> scrollMentorList(
+            @RequestParam(required = false) String career,
+            @RequestParam(required = false) String interest,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        MentorScrollResponseDto response = mentorService.scrollMentorList(career, interest, keyword, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "멘토 상세 조회",
             description = "특정 멘토의 상세 정보를 조회합니다"
@@ -3,6 +3,7 @@ package com.example.knu_connect.domain.mentor.dto.response;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
+import java.util.Map;
 
 @Schema(description = "멘토 목록 조회 응답")
 public record MentorListResponseDto(
@@ -16,8 +17,21 @@ public record MentorListResponseDto(
         Integer size,
 
         @Schema(description = "다음 페이지 존재 여부", example = "true")
-        Boolean hasNext
+        Boolean hasNext,
+
+        @Schema(description = "검색 조건에 맞는 진로/관심 분야별 멘토 수 (정렬 조건을 지정하면 null)")
+        FacetsDto facets
 ) {
+    @Schema(description = "진로/관심 분야별 멘토 수 (각 항목은 자신을 제외한 나머지 조건을 적용한 수)")
+    public record FacetsDto(
+            @Schema(description = "진로별 멘토 수", example = "{\"employment\": 3, \"startup\": 1, \"matriculation\": 0}")
+            Map<String, Long> career,
+
+            @Schema(description = "관심 분야별 멘토 수", example = "{\"frontend\": 0, \"backend\": 2, \"data\": 1, \"ai\": 1, \"security\": 0}")
+            Map<String, Long> interest
+    ) {
+    }
+
     @Schema(description = "멘토 정보")
     public record MentorDto(
             @Schema(description = "멘토 아이디")
@@ -0,0 +1,21 @@
+package com.example.knu_connect.domain.mentor.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "멘토 목록 커서 조회 응답")
+public record MentorScrollResponseDto(
+        @Schema(description = "멘토 목록 (최근 가입순)")
+        List<MentorListResponseDto.MentorDto> mentors,
+
+        @Schema(description = "조회된 멘토 수", example = "10")
+        Integer size,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        Boolean hasNext,
+
+        @Schema(description = "다음 페이지 조회 시 전달할 커서 (다음 페이지가 없으면 null)", example = "MjAyNC0wMS0xNVQxMDozMDowMHw0Mg")
+        String nextCursor
+) {
+}
@@ -0,0 +1,381 @@
+package com.example.knu_connect.domain.mentor.service;
+
+import com.example.knu_connect.domain.mentor.dto.response.MentorListResponseDto;
+import com.example.knu_connect.domain.mentor.specification.MentorSpecification;
+import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.domain.user.entity.enums.Career;
+import com.example.knu_connect.domain.user.entity.enums.Interest;
+import com.example.knu_connect.domain.user.event.UserPrincipalChangedEvent;
+import com.example.knu_connect.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 멘토 검색용 인메모리 인덱스 (멘토 목록 조회 시 DB 조회/COUNT 없이 응답)
+// - 멘토마다 슬롯 번호를 부여하고 진로/관심 분야 값별 BitSet과 키워드용 2-gram BitSet 유지
+// - 키워드는 2-gram 교집합으로 후보를 좁힌 뒤 이름/소개에 실제로 포함되는지 확인
+//   (MentorSpecification.containsKeyword와 같은 정규화로 DB 조회와 같은 결과, 앞뒤 공백과 대소문자 무시)
+// - 사용자 정보 변경/회원가입 커밋 이후 해당 사용자만 다시 읽어 반영하고, Redis Pub/Sub으로 다른 인스턴스에 전파
+//   DB 조회는 애플리케이션 task executor에서 실행 (Pub/Sub 리스너 스레드와 커밋 이후 콜백을 붙잡지 않음)
+//   같은 사용자의 재조회는 한 번에 하나만 실행하고, 실행 중 들어온 요청은 끝난 뒤 한 번 더 조회 (오래된 조회 결과가 마지막에 반영되지 않음)
+//   메시지는 "노드ID|이메일" 형식으로 발행하고 자신이 발행한 메시지는 무시
+// - 놓친 Pub/Sub 메시지 보정과 삭제된 슬롯 정리를 위해 주기적으로 전체 재구성
+// - 적재 전에는 검색하지 않음 (호출자가 DB로 조회)
+@Slf4j
+@Component
+public class MentorIndex implements MessageListener {
+
+    public static final String CHANNEL = "mentor:index:changed";
+    private static final int GRAM_SIZE = 2;
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Executor reloadExecutor;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 재조회가 예약/실행 중인 이메일 → 실행 중에 다시 요청됐는지 여부
+    private final ConcurrentMap<String, Boolean> reloading = new ConcurrentHashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Entry> entries = new ArrayList<>();               // 슬롯 번호 → 멘토 (삭제된 슬롯은 null)
+    private final Map<String, Integer> slotsByEmail = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Map<Career, BitSet> byCareer = new EnumMap<>(Career.class);
+    private final Map<Interest, BitSet> byInterest = new EnumMap<>(Interest.class);
+    private final Map<String, BitSet> byGram = new HashMap<>();
+    private Set<String> changedDuringRebuild;                             // 재구성 중 변경된 사용자 (교체 후 다시 반영)
+    private volatile boolean ready;
+
+    public MentorIndex(UserRepository userRepository,
+                       RedisTemplate<String, String> redisTemplate,
+                       RedisMessageListenerContainer listenerContainer,
+                       @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor reloadExecutor,
+                       @Value("${mentor.index.enabled:true}") boolean enabled) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.reloadExecutor = reloadExecutor;
+        this.enabled = enabled;
+        for (Career career : Career.values()) {
+            byCareer.put(career, new BitSet());
+        }
+        for (Interest interest : Interest.values()) {
+            byInterest.put(interest, new BitSet());
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 조건에 맞는 멘토를 ID 순으로 조회 (적재 전이면 empty)
+    public Optional<SearchResult> search(String career, String interest, String keyword, long offset, int size) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet careerFilter = facetFilter(Career.class, career, byCareer);
+            BitSet interestFilter = facetFilter(Interest.class, interest, byInterest);
+            BitSet matches = matchKeyword(keyword);
+
+            // 각 항목의 수는 자신을 제외한 나머지 조건을 적용하여 계산
+            BitSet forCareerCounts = and(matches, interestFilter);
+            BitSet forInterestCounts = and(matches, careerFilter);
+            BitSet result = and(forCareerCounts, careerFilter);
+
+            List<Entry> found = new ArrayList<>(result.cardinality());
+            result.stream().forEach(slot -> found.add(entries.get(slot)));
+            found.sort(Comparator.comparing(Entry::id));
+
+            int from = (int) Math.min(offset, found.size());
+            int to = (int) Math.min(offset + size, found.size());
+            List<MentorListResponseDto.MentorDto> mentors = found.subList(from, to).stream()
+                    .map(Entry::mentor)
+                    .toList();
+
+            return Optional.of(new SearchResult(
+                    mentors,
+                    found.size() > to,
+                    new MentorListResponseDto.FacetsDto(
+                            counts(byCareer, forCareerCounts),
+                            counts(byInterest, forInterestCounts))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 기동 직후와 이후 주기적으로 DB의 멘토 전체로 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${mentor.index.rebuild-interval-ms:600000}",
+            initialDelayString = "${mentor.index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<User> mentors;
+        try {
+            mentors = userRepository.findByMentorTrueOrderByIdAsc();
+        } catch (RuntimeException e) {
+            // 실패 시 기존 인덱스 유지 (최초 적재 전이면 계속 DB 조회)
+            log.warn("Failed to rebuild mentor index: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        Set<String> changed;
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            slotsByEmail.clear();
+            live.clear();
+            byCareer.values().forEach(BitSet::clear);
+            byInterest.values().forEach(BitSet::clear);
+            byGram.clear();
+            mentors.forEach(this::add);
+
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 재구성 중 커밋된 변경은 읽어 온 목록에 빠졌을 수 있으므로 다시 반영
+        changed.forEach(this::scheduleReload);
+        log.debug("Mentor index rebuilt with {} mentors", mentors.size());
+    }
+
+    // 사용자 정보 변경/회원가입 커밋 이후 현재 인스턴스에 반영하고 다른 인스턴스에 전파
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserPrincipalChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        scheduleReload(event.email());
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + event.email());
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish mentor index change for {}: {}", event.email(), e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스에서 발행한 변경 이벤트 수신 (자신이 발행한 이벤트는 이미 반영했으므로 무시)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!enabled) {
+            return;
+        }
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0) {
+            log.warn("Ignored malformed mentor index message: {}", body);
+            return;
+        }
+        if (!nodeId.equals(body.substring(0, separator))) {
+            scheduleReload(body.substring(separator + 1));
+        }
+    }
+
+    // 같은 사용자의 재조회가 실행 중이면 끝난 뒤 한 번 더 조회하도록 표시만 함
+    private void scheduleReload(String email) {
+        if (reloading.put(email, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            reloadExecutor.execute(() -> runReload(email));
+        } catch (RejectedExecutionException e) {
+            reloading.remove(email);
+            log.warn("Failed to schedule mentor reload for {}: {}", email, e.getMessage());
+        }
+    }
+
+    private void runReload(String email) {
+        do {
+            reloading.put(email, Boolean.FALSE);
+            reload(email);
+        } while (!reloading.remove(email, Boolean.FALSE));
+    }
+
+    // 사용자 한 명을 DB에서 다시 읽어 반영 (멘토가 아니게 되었거나 삭제되었으면 제거)
+    private void reload(String email) {
+        Optional<User> user;
+        try {
+            user = userRepository.findByEmail(email);
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload mentor {}: {}", email, e.getMessage());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(email);
+            }
+            remove(email);
+            user.filter(User::isMentor).ifPresent(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락 안에서 호출
+    private void add(User user) {
+        Entry entry = Entry.from(user);
+        int slot = entries.size();
+        entries.add(entry);
+        slotsByEmail.put(entry.email(), slot);
+        live.set(slot);
+        byCareer.get(entry.career()).set(slot);
+        byInterest.get(entry.interest()).set(slot);
+        for (String gram : grams(entry.searchText())) {
+            byGram.computeIfAbsent(gram, key -> new BitSet()).set(slot);
+        }
+    }
+
+    // 쓰기 락 안에서 호출 (슬롯은 재사용하지 않고 다음 재구성 때 정리)
+    private void remove(String email) {
+        Integer slot = slotsByEmail.remove(email);
+        if (slot == null) {
+            return;
+        }
+        Entry entry = entries.set(slot, null);
+        live.clear(slot);
+        byCareer.get(entry.career()).clear(slot);
+        byInterest.get(entry.interest()).clear(slot);
+        for (String gram : grams(entry.searchText())) {
+            BitSet slots = byGram.get(gram);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                byGram.remove(gram);
+            }
+        }
+    }
+
+    // 키워드가 이름이나 소개에 포함된 멘토 (키워드가 없으면 전체)
+    private BitSet matchKeyword(String keyword) {
+        String normalized = MentorSpecification.normalizeKeyword(keyword);
+        if (normalized == null) {
+            return (BitSet) live.clone();
+        }
+
+        BitSet candidates = (BitSet) live.clone();
+        for (String gram : grams(normalized)) {
+            BitSet slots = byGram.get(gram);
+            if (slots == null) {
+                return new BitSet();
+            }
+            candidates.and(slots);
+        }
+
+        // 2-gram이 모두 있어도 연속으로 나타나지 않을 수 있으므로 실제 포함 여부 확인
+        int[] falsePositives = candidates.stream()
+                .filter(slot -> !entries.get(slot).searchText().contains(normalized))
+                .toArray();
+        for (int slot : falsePositives) {
+            candidates.clear(slot);
+        }
+        return candidates;
+    }
+
+    // 조건이 없으면 null, 잘못된 값이면 빈 집합
+    private static <E extends Enum<E>> BitSet facetFilter(Class<E> type, String value, Map<E, BitSet> index) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return index.get(Enum.valueOf(type, value));
+        } catch (IllegalArgumentException e) {
+            return new BitSet();
+        }
+    }
+
+    private static BitSet and(BitSet source, BitSet filter) {
+        BitSet result = (BitSet) source.clone();
+        if (filter != null) {
+            result.and(filter);
+        }
+        return result;
+    }
+
+    private static <E extends Enum<E>> Map<String, Long> counts(Map<E, BitSet> index, BitSet matches) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        index.forEach((value, slots) -> {
+            BitSet intersection = (BitSet) slots.clone();
+            intersection.and(matches);
+            counts.put(value.name(), (long) intersection.cardinality());
+        });
+        return counts;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    public record SearchResult(List<MentorListResponseDto.MentorDto> mentors,
+                               boolean hasNext,
+                               MentorListResponseDto.FacetsDto facets) {
+    }
+
+    private record Entry(Long id, String email, Career career, Interest interest, String searchText,
+                         MentorListResponseDto.MentorDto mentor) {
+
+        // 이름과 소개를 줄바꿈으로 이어 붙여 검색 (소문자로 저장)
+        static Entry from(User user) {
+            String introduction = user.getIntroduction() != null ? user.getIntroduction() : "";
+            return new Entry(
+                    user.getId(),
+                    user.getEmail(),
+                    user.getCareer(),
+                    user.getInterest(),
+                    (user.getName() + "\n" + introduction).toLowerCase(Locale.ROOT),
+                    new MentorListResponseDto.MentorDto(
+                            user.getId(),
+                            user.getName(),
+                            user.getDepartment().name(),
+                            user.getStatus().name(),
+                            user.getCareer().name(),
+                            user.getInterest().name(),
+                            user.getMbti().name(),
+                            user.getIntroduction()
+                    ));
+        }
+    }
+}
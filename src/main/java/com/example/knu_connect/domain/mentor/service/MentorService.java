@@ -2,27 +2,50 @@ package com.example.knu_connect.domain.mentor.service;
 
 import com.example.knu_connect.domain.mentor.dto.response.MentorDetailResponseDto;
 import com.example.knu_connect.domain.mentor.dto.response.MentorListResponseDto;
+import com.example.knu_connect.domain.mentor.dto.response.MentorScrollResponseDto;
 import com.example.knu_connect.domain.mentor.specification.MentorSpecification;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
+import com.example.knu_connect.global.pagination.ScrollCursor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class MentorService {
 
+    // 키셋 페이지네이션 정렬 (idx_users_mentor_created_at_id 인덱스 순서)
+    private static final Sort SCROLL_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final UserRepository userRepository;
+    private final MentorIndex mentorIndex;
 
     public MentorListResponseDto getMentorList(String career, String interest, String keyword, Pageable pageable) {
 
+        // 정렬 조건이 없으면 인메모리 인덱스로 조회 (ID 순, 인덱스 적재 전이면 DB 조회)
+        if (pageable.getSort().isUnsorted()) {
+            Optional<MentorIndex.SearchResult> indexed =
+                    mentorIndex.search(career, interest, keyword, pageable.getOffset(), pageable.getPageSize());
+            if (indexed.isPresent()) {
+                return new MentorListResponseDto(
+                        indexed.get().mentors(),
+                        pageable.getPageNumber(),
+                        indexed.get().mentors().size(),
+                        indexed.get().hasNext(),
+                        indexed.get().facets()
+                );
+            }
+        }
+
         Specification<User> spec =
                 Specification.allOf(
                         MentorSpecification.isMentor(),
@@ -31,29 +54,54 @@ public class MentorService {
                         MentorSpecification.containsKeyword(keyword)
                 );
 
-        Page<User> result = userRepository.findAll(spec, pageable);
+        // 전체 개수는 조회하지 않음 (한 건 더 조회하여 다음 페이지 여부 판단)
+        Slice<User> result = userRepository.findBy(spec, query -> query.slice(pageable));
 
         List<MentorListResponseDto.MentorDto> mentors = result.getContent().stream()
-                .map(user -> new MentorListResponseDto.MentorDto(
-                        user.getId(),
-                        user.getName(),
-                        user.getDepartment().name(),
-                        user.getStatus().name(),
-                        user.getCareer().name(),
-                        user.getInterest().name(),
-                        user.getMbti().name(),
-                        user.getIntroduction()
-                ))
+                .map(this::toMentorDto)
                 .toList();
 
         return new MentorListResponseDto(
                 mentors,
                 result.getNumber(),               // page
                 result.getNumberOfElements(),     // size
-                result.hasNext()
+                result.hasNext(),
+                null
         );
     }
 
+    public MentorScrollResponseDto scrollMentorList(String career, String interest, String keyword,
+                                                    String cursor, int size) {
+        ScrollCursor.checkSize(size);
+
+        Specification<User> spec =
+                Specification.allOf(
+                        MentorSpecification.isMentor(),
+                        MentorSpecification.hasCareer(career),
+                        MentorSpecification.hasInterest(interest),
+                        MentorSpecification.containsKeyword(keyword),
+                        MentorSpecification.before(ScrollCursor.decode(cursor))
+                );
+
+        // 한 건 더 조회하여 다음 페이지 여부 판단 (OFFSET, COUNT 없음)
+        List<User> users = userRepository.findBy(spec, query -> query.sortBy(SCROLL_SORT).limit(size + 1).all());
+
+        boolean hasNext = users.size() > size;
+        List<User> page = hasNext ? users.subList(0, size) : users;
+
+        List<MentorListResponseDto.MentorDto> mentors = page.stream()
+                .map(this::toMentorDto)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            User last = page.get(page.size() - 1);
+            nextCursor = new ScrollCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new MentorScrollResponseDto(mentors, mentors.size(), hasNext, nextCursor);
+    }
+
     public MentorDetailResponseDto getMentorDetail(Long userId) {
         User user = userRepository.findByIdAndMentor(userId, true)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MENTOR_NOT_FOUND));
@@ -70,4 +118,17 @@ public class MentorService {
                 user.getDetailIntroduction()
         );
     }
+
+    private MentorListResponseDto.MentorDto toMentorDto(User user) {
+        return new MentorListResponseDto.MentorDto(
+                user.getId(),
+                user.getName(),
+                user.getDepartment().name(),
+                user.getStatus().name(),
+                user.getCareer().name(),
+                user.getInterest().name(),
+                user.getMbti().name(),
+                user.getIntroduction()
+        );
+    }
 }
@@ -1,10 +1,17 @@
 package com.example.knu_connect.domain.mentor.specification;
 
 import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.global.pagination.ScrollCursor;
+import jakarta.persistence.criteria.Path;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.Locale;
+
 public class MentorSpecification {
 
+    private static final char LIKE_ESCAPE = '\\';
+
     public static Specification<User> isMentor() {
         return (root, query, cb) -> cb.isTrue(root.get("mentor"));
     }
@@ -23,17 +30,53 @@ public class MentorSpecification {
                         : cb.equal(root.get("interest"), interest);
     }
 
+    // 검색 키워드 정규화 (앞뒤 공백 제거, 소문자), 키워드가 없으면 null
+    // 인메모리 인덱스(MentorIndex)도 같은 규칙을 사용해야 DB 조회와 결과가 같음
+    public static String normalizeKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return keyword.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // 컬럼 collation과 무관하게 대소문자를 무시하고, 키워드의 %와 _는 문자 그대로 비교
     public static Specification<User> containsKeyword(String keyword) {
         return (root, query, cb) -> {
-            if (keyword == null || keyword.isBlank()) {
+            String normalized = normalizeKeyword(keyword);
+            if (normalized == null) {
                 return null;
             }
 
-            String pattern = "%" + keyword + "%";
+            String pattern = "%" + escapeLike(normalized) + "%";
 
             return cb.or(
-                    cb.like(root.get("name"), pattern),
-                    cb.like(root.get("introduction"), pattern)
+                    cb.like(cb.lower(root.<String>get("name")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.<String>get("introduction")), pattern, LIKE_ESCAPE)
+            );
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    // 키셋 페이지네이션: 커서(생성일시, ID)보다 이전 멘토 (created_at DESC, id DESC 정렬과 함께 사용)
+    public static Specification<User> before(ScrollCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+
+            return cb.and(
+                    cb.lessThanOrEqualTo(createdAt, cursor.createdAt()),
+                    cb.or(
+                            cb.lessThan(createdAt, cursor.createdAt()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
             );
         };
     }
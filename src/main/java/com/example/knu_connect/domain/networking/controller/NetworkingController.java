@@ -5,10 +5,11 @@ import com.example.knu_connect.domain.networking.dto.request.NetworkingUpdateReq
 import com.example.knu_connect.domain.networking.dto.response.MyNetworkingListResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.NetworkingDetailResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.NetworkingListResponseDto;
+import com.example.knu_connect.domain.networking.dto.response.NetworkingScrollResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.ParticipantsResponseDto;
 import com.example.knu_connect.domain.networking.service.NetworkingService;
-import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.global.annotation.AuthUser;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -47,9 +48,9 @@ public class NetworkingController {
     public ResponseEntity<Void> createNetworking(
             @RequestParam(name = "chat_room_id", required = false) Long chatRoomId,
             @Valid @RequestBody NetworkingCreateRequestDto request,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        networkingService.createNetworking(user, request, chatRoomId);
+        networkingService.createNetworking(principal.userId(), request, chatRoomId);
 
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
@@ -74,9 +75,36 @@ public class NetworkingController {
     public ResponseEntity<NetworkingListResponseDto> getNetworkingList(
             @RequestParam(required = false) String keyword,
             @PageableDefault(page = 0, size = 10) Pageable pageable,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        NetworkingListResponseDto response = networkingService.getNetworkingList(user, keyword, pageable);
+        NetworkingListResponseDto response = networkingService.getNetworkingList(principal.userId(), keyword, pageable);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "게시물 목록 커서 조회",
+            description = "네트워킹 게시물 목록을 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = NetworkingScrollResponseDto.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기", content = @Content)
+    })
+    @Parameters({
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (없으면 최신부터)", example = "MjAyNC0wMS0xNVQxMDozMDowMHw0Mg"),
+            @Parameter(name = "size", description = "조회할 게시물 수 (최대 100)", example = "10")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<NetworkingScrollResponseDto> scrollNetworkingList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthUser AuthPrincipal principal
+    ) {
+        NetworkingScrollResponseDto response = networkingService.scrollNetworkingList(principal.userId(), cursor, size);
 
         return ResponseEntity.ok(response);
     }
@@ -97,9 +125,9 @@ public class NetworkingController {
     @GetMapping("/{networking_id}")
     public ResponseEntity<NetworkingDetailResponseDto> getNetworkingDetail(
             @PathVariable("networking_id") Long networkingId,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        NetworkingDetailResponseDto response = networkingService.getNetworkingDetail(user, networkingId);
+        NetworkingDetailResponseDto response = networkingService.getNetworkingDetail(principal.userId(), networkingId);
 
         return ResponseEntity.ok(response);
     }
@@ -120,9 +148,9 @@ public class NetworkingController {
             @Parameter(description = "네트워킹 ID", example = "1")
             @PathVariable("networking_id") Long networkingId,
             @Valid @RequestBody NetworkingUpdateRequestDto request,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        networkingService.updateNetworking(user, request, networkingId);
+        networkingService.updateNetworking(principal.userId(), request, networkingId);
 
         return ResponseEntity.ok().build();
     }
@@ -146,9 +174,9 @@ public class NetworkingController {
     @GetMapping("/me")
     public ResponseEntity<MyNetworkingListResponseDto> getMyNetworkingList(
             @PageableDefault(page = 0, size = 10) Pageable pageable,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        MyNetworkingListResponseDto response = networkingService.getMyNetworkingList(user, pageable);
+        MyNetworkingListResponseDto response = networkingService.getMyNetworkingList(principal.userId(), pageable);
 
         return ResponseEntity.ok(response);
     }
@@ -169,9 +197,9 @@ public class NetworkingController {
     @GetMapping("/{networking_id}/participants")
     public ResponseEntity<ParticipantsResponseDto> getParticipants(
             @PathVariable("networking_id") Long networkingId,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        ParticipantsResponseDto response = networkingService.getNetworkingParticipants(user, networkingId);
+        ParticipantsResponseDto response = networkingService.getNetworkingParticipants(principal.userId(), networkingId);
         return ResponseEntity.ok(response);
     }
 
@@ -190,9 +218,9 @@ public class NetworkingController {
     @PostMapping("/{networking_id}/participation")
     public ResponseEntity<Void> joinNetworking(
             @PathVariable("networking_id") Long networkingId,
-            @AuthUser User user
+            @AuthUser AuthPrincipal principal
     ) {
-        networkingService.joinNetworking(user, networkingId);
+        networkingService.joinNetworking(principal.userId(), networkingId);
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,21 @@
+package com.example.knu_connect.domain.networking.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "네트워킹 목록 커서 조회 응답")
+public record NetworkingScrollResponseDto(
+        @Schema(description = "게시물 목록 (최신순)")
+        List<NetworkingListResponseDto.NetworkingBoardDto> boards,
+
+        @Schema(description = "조회된 게시물 수", example = "10")
+        Integer size,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        Boolean hasNext,
+
+        @Schema(description = "다음 페이지 조회 시 전달할 커서 (다음 페이지가 없으면 null)", example = "MjAyNC0wMS0xNVQxMDozMDowMHw0Mg")
+        String nextCursor
+) {
+}
@@ -10,13 +10,19 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "networking")
+@Table(name = "networking", indexes = {
+        // 최신순 키셋 페이지네이션 (created_at DESC, id DESC)
+        @Index(name = "idx_networking_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 변경된 컬럼만 UPDATE (게시글 수정 시 조회 이후 참여/탈퇴로 바뀐 cur_number를 덮어쓰지 않도록)
+@DynamicUpdate
 public class Networking extends CreatedTimeEntity {
 
     @Id
@@ -39,6 +45,7 @@ public class Networking extends CreatedTimeEntity {
     @Column(nullable = false)
     private String contents;
 
+    // 참여/탈퇴 시 NetworkingRepository의 조건부 UPDATE로만 변경
     @Column(nullable = false)
     private Integer curNumber;
 
@@ -79,18 +86,4 @@ public class Networking extends CreatedTimeEntity {
             this.user = user;
         }
     }
-
-    public void join() {
-        if (this.curNumber >= this.maxNumber) {
-            throw new BusinessException(ErrorCode.NETWORKING_FULL);
-        }
-        this.curNumber++;
-    }
-
-    public void leave() {
-        if (this.curNumber > 0) {
-            this.curNumber--;
-        }
-    }
-
 }
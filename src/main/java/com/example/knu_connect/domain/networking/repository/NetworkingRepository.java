@@ -1,27 +1,87 @@
 package com.example.knu_connect.domain.networking.repository;
 
 import com.example.knu_connect.domain.networking.entitiy.Networking;
-import com.example.knu_connect.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface NetworkingRepository extends JpaRepository<Networking, Long> {
 
-    // ChatRoom과 Participants를 함께 로딩
-    @EntityGraph(attributePaths = {"chatRoom"})
-    Page<Networking> findAll(Pageable pageable);
+    // 전체 개수는 조회하지 않음 (한 건 더 조회하여 다음 페이지 여부 판단)
+    // 목록의 참여 여부는 findParticipatingIds로 한 번에 조회하므로 채팅방은 함께 로딩하지 않음
+    Slice<Networking> findAllBy(Pageable pageable);
 
-    // 키워드 검색 (제목 + 내용)
-    @EntityGraph(attributePaths = {"chatRoom"})
-    Page<Networking> findByTitleContainingOrContentsContaining(String title, String contents, Pageable pageable);
+    // 최신순 키셋 페이지네이션 (idx_networking_created_at_id 인덱스 사용, 전체 개수는 조회하지 않음)
+    // 첫 페이지
+    @Query("SELECT n FROM Networking n " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Networking> findLatest(Pageable pageable);
+
+    // 다음 페이지: 커서(마지막으로 받은 게시글의 생성일시, ID)보다 이전 게시글
+    @Query("SELECT n FROM Networking n " +
+            "WHERE n.createdAt <= :createdAt " +
+            "AND (n.createdAt < :createdAt OR n.id < :id) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Networking> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    // 키워드 검색 (제목 + 내용, LIKE '%키워드%'), 전체 개수는 조회하지 않음
+    Slice<Networking> findByTitleContainingOrContentsContaining(String title, String contents, Pageable pageable);
+
+    // 키워드 검색 (MySQL FULLTEXT ngram 인덱스): 구문이 포함된 게시글 ID를 관련도 순으로 조회
+    // phrase는 큰따옴표로 감싼 키워드 (BOOLEAN MODE 구문 검색으로 LIKE와 같은 결과), 정렬은 키워드의 관련도 점수
+    @Query(value = "SELECT n.id FROM networking n " +
+            "WHERE MATCH(n.title, n.contents) AGAINST (:phrase IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(n.title, n.contents) AGAINST (:keyword IN NATURAL LANGUAGE MODE) DESC, n.id DESC " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Long> searchIdsByFullText(@Param("keyword") String keyword,
+                                   @Param("phrase") String phrase,
+                                   @Param("limit") int limit,
+                                   @Param("offset") long offset);
+
+    List<Networking> findByIdIn(Collection<Long> ids);
+
+    // 목록 페이지의 게시글 중 사용자가 참여 중인 게시글 ID (참여자 컬렉션을 로딩하지 않고 한 번에 조회)
+    @Query("SELECT n.id FROM Networking n " +
+            "JOIN ChatParticipants cp ON cp.chatRoom.id = n.chatRoom.id " +
+            "WHERE n.id IN :networkingIds " +
+            "AND cp.user.id = :userId")
+    Set<Long> findParticipatingIds(@Param("networkingIds") Collection<Long> networkingIds,
+                                   @Param("userId") Long userId);
 
     // 내 네트워킹 조회
     @EntityGraph(attributePaths = {"chatRoom"})
-    Page<Networking> findByUser(User user, Pageable pageable);
+    Page<Networking> findByUser_Id(Long userId, Pageable pageable);
+
+    // 정원 확보: 현재 인원이 최대 인원보다 적을 때만 1 증가 (영향받은 행이 0이면 마감)
+    // 같은 게시글에 동시에 참여하면 행 잠금으로 직렬화되어 최대 인원을 넘지 않음
+    @Modifying
+    @Query("UPDATE Networking n " +
+            "SET n.curNumber = n.curNumber + 1 " +
+            "WHERE n.id = :networkingId " +
+            "AND n.curNumber < n.maxNumber")
+    int increaseCurNumber(@Param("networkingId") Long networkingId);
+
+    // 채팅방을 나간 참여자만큼 현재 인원 감소 (DB에서 원자적으로 감소)
+    @Modifying
+    @Query("UPDATE Networking n " +
+            "SET n.curNumber = n.curNumber - 1 " +
+            "WHERE n.chatRoom.id = :chatRoomId " +
+            "AND n.curNumber > 0")
+    int decreaseCurNumberByChatRoomId(@Param("chatRoomId") Long chatRoomId);
 
     boolean existsByUserIdAndChatRoomId(Long userId, Long chatRoomId);
 
@@ -9,6 +9,7 @@ import com.example.knu_connect.domain.networking.dto.request.NetworkingUpdateReq
 import com.example.knu_connect.domain.networking.dto.response.MyNetworkingListResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.NetworkingDetailResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.NetworkingListResponseDto;
+import com.example.knu_connect.domain.networking.dto.response.NetworkingScrollResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.ParticipantsResponseDto;
 import com.example.knu_connect.domain.networking.entitiy.Networking;
 import com.example.knu_connect.domain.networking.repository.NetworkingRepository;
@@ -16,13 +17,18 @@ import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
+import com.example.knu_connect.global.pagination.ScrollCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,10 +40,13 @@ public class NetWorkingServiceImpl implements NetworkingService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatParticipantsRepository chatParticipantsRepository;
     private final UserRepository userRepository;
+    private final NetworkingSearchService networkingSearchService;
 
     @Override
     @Transactional
-    public void createNetworking(User user, NetworkingCreateRequestDto request, Long chatRoomId) {
+    public void createNetworking(Long userId, NetworkingCreateRequestDto request, Long chatRoomId) {
+        // 연관관계 대상으로만 쓰므로 조회 없이 참조만 사용
+        User user = userRepository.getReferenceById(userId);
         User leader;
 
         ChatRoom newChatRoom = ChatRoom.create();
@@ -52,7 +61,7 @@ public class NetWorkingServiceImpl implements NetworkingService {
 
             addParticipant(newChatRoom, leader);
 
-            if (!user.getId().equals(leader.getId())) {
+            if (!userId.equals(leader.getId())) {
                 addParticipant(newChatRoom, user);
             }
 
@@ -77,34 +86,19 @@ public class NetWorkingServiceImpl implements NetworkingService {
     }
 
     @Override
-    public NetworkingListResponseDto getNetworkingList(User user, String keyword, Pageable pageable) {
-        Page<Networking> networkings;
+    public NetworkingListResponseDto getNetworkingList(Long userId, String keyword, Pageable pageable) {
+        Slice<Networking> networkings;
 
         if (keyword == null || keyword.trim().isEmpty()) {
-            networkings = networkingRepository.findAll(pageable);
+            networkings = networkingRepository.findAllBy(pageable);
         } else {
-            networkings = networkingRepository.findByTitleContainingOrContentsContaining(
-                    keyword, keyword, pageable);
+            networkings = networkingSearchService.search(keyword, pageable);
         }
 
-        List<NetworkingListResponseDto.NetworkingBoardDto> boards = networkings.stream()
-                .map(n -> {
-
-                    int realParticipantCount = n.getCurNumber();
+        Set<Long> participatingIds = findParticipatingIds(userId, networkings.getContent());
 
-                    boolean isParticipating = n.getChatRoom().getParticipants().stream()
-                            .anyMatch(p -> p.getUserId().equals(user.getId()));
-
-                    return new NetworkingListResponseDto.NetworkingBoardDto(
-                            n.getId(),
-                            n.getTitle(),
-                            n.getContents(),
-                            realParticipantCount,
-                            n.getMaxNumber(),
-                            isParticipating,
-                            n.getCreatedAt()
-                    );
-                })
+        List<NetworkingListResponseDto.NetworkingBoardDto> boards = networkings.stream()
+                .map(n -> toBoardDto(n, participatingIds.contains(n.getId())))
                 .collect(Collectors.toList());
 
         return new NetworkingListResponseDto(
@@ -116,7 +110,61 @@ public class NetWorkingServiceImpl implements NetworkingService {
     }
 
     @Override
-    public NetworkingDetailResponseDto getNetworkingDetail(User user, Long networkingId) {
+    public NetworkingScrollResponseDto scrollNetworkingList(Long userId, String cursor, int size) {
+        ScrollCursor.checkSize(size);
+        ScrollCursor position = ScrollCursor.decode(cursor);
+
+        // 한 건 더 조회하여 다음 페이지 여부 판단 (OFFSET, COUNT 없이 인덱스 범위 조회)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Networking> networkings = position == null
+                ? networkingRepository.findLatest(limit)
+                : networkingRepository.findLatestBefore(position.createdAt(), position.id(), limit);
+
+        boolean hasNext = networkings.size() > size;
+        List<Networking> page = hasNext ? networkings.subList(0, size) : networkings;
+
+        Set<Long> participatingIds = findParticipatingIds(userId, page);
+
+        List<NetworkingListResponseDto.NetworkingBoardDto> boards = page.stream()
+                .map(n -> toBoardDto(n, participatingIds.contains(n.getId())))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            Networking last = page.get(page.size() - 1);
+            nextCursor = new ScrollCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new NetworkingScrollResponseDto(boards, boards.size(), hasNext, nextCursor);
+    }
+
+    // 페이지의 게시글 중 사용자가 참여 중인 게시글 ID를 한 번의 쿼리로 조회 (참여 인원과 무관하게 쿼리 수 일정)
+    private Set<Long> findParticipatingIds(Long userId, List<Networking> networkings) {
+        if (networkings.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> networkingIds = networkings.stream()
+                .map(Networking::getId)
+                .toList();
+        return networkingRepository.findParticipatingIds(networkingIds, userId);
+    }
+
+    private NetworkingListResponseDto.NetworkingBoardDto toBoardDto(Networking n, boolean isParticipating) {
+        int realParticipantCount = n.getCurNumber();
+
+        return new NetworkingListResponseDto.NetworkingBoardDto(
+                n.getId(),
+                n.getTitle(),
+                n.getContents(),
+                realParticipantCount,
+                n.getMaxNumber(),
+                isParticipating,
+                n.getCreatedAt()
+        );
+    }
+
+    @Override
+    public NetworkingDetailResponseDto getNetworkingDetail(Long userId, Long networkingId) {
         Networking networking = networkingRepository.findById(networkingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NETWORKING_NOT_FOUND));
 
@@ -125,7 +173,7 @@ public class NetWorkingServiceImpl implements NetworkingService {
         int realParticipantCount = networking.getCurNumber();
 
         boolean isParticipating = networking.getChatRoom().getParticipants().stream()
-                .anyMatch(p -> p.getUserId().equals(user.getId()));
+                .anyMatch(p -> p.getUserId().equals(userId));
 
         NetworkingDetailResponseDto.RepresentativeDto representativeDto =
                 new NetworkingDetailResponseDto.RepresentativeDto(
@@ -153,11 +201,11 @@ public class NetWorkingServiceImpl implements NetworkingService {
 
     @Override
     @Transactional
-    public void updateNetworking(User user, NetworkingUpdateRequestDto request, Long networkingId) {
+    public void updateNetworking(Long userId, NetworkingUpdateRequestDto request, Long networkingId) {
         Networking networking = networkingRepository.findById(networkingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NETWORKING_NOT_FOUND));
 
-        if (!networking.getUser().getId().equals(user.getId())) {
+        if (!networking.getUser().getId().equals(userId)) {
             throw new BusinessException(ErrorCode.NETWORKING_FORBIDDEN);
         }
 
@@ -173,8 +221,8 @@ public class NetWorkingServiceImpl implements NetworkingService {
     }
 
     @Override
-    public MyNetworkingListResponseDto getMyNetworkingList(User user, Pageable pageable) {
-        Page<Networking> networkings = networkingRepository.findByUser(user, pageable);
+    public MyNetworkingListResponseDto getMyNetworkingList(Long userId, Pageable pageable) {
+        Page<Networking> networkings = networkingRepository.findByUser_Id(userId, pageable);
 
         List<MyNetworkingListResponseDto.MyNetworkingBoardDto> boards = networkings.stream()
                 .map(n -> {
@@ -200,7 +248,7 @@ public class NetWorkingServiceImpl implements NetworkingService {
     }
 
     @Override
-    public ParticipantsResponseDto getNetworkingParticipants(User user, Long networkingId) {
+    public ParticipantsResponseDto getNetworkingParticipants(Long userId, Long networkingId) {
         Networking networking = networkingRepository.findById(networkingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NETWORKING_NOT_FOUND));
 
@@ -228,19 +276,34 @@ public class NetWorkingServiceImpl implements NetworkingService {
 
     @Transactional
     @Override
-    public void joinNetworking(User user, Long networkingId) {
+    public void joinNetworking(Long userId, Long networkingId) {
         Networking networking = networkingRepository.findById(networkingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NETWORKING_NOT_FOUND));
 
         ChatRoom chatRoom = networking.getChatRoom();
 
-        if (chatParticipantsRepository.existsByUser_IdAndChatRoom_Id(user.getId(), chatRoom.getId())) {
+        if (chatParticipantsRepository.existsByUser_IdAndChatRoom_Id(userId, chatRoom.getId())) {
             throw new BusinessException(ErrorCode.ALREADY_PARTICIPATED);
         }
 
-        networking.join();
+        // 조건부 UPDATE로 정원 확보 (읽은 값으로 검사 후 증가하면 동시 참여 시 최대 인원 초과)
+        if (networkingRepository.increaseCurNumber(networkingId) == 0) {
+            throw new BusinessException(ErrorCode.NETWORKING_FULL);
+        }
 
-        addParticipant(chatRoom, user);
+        // 같은 사용자의 동시 참여는 위 존재 확인을 함께 통과할 수 있으므로 유니크 제약으로 차단
+        // 예외 발생 시 트랜잭션이 롤백되어 확보한 정원도 함께 복구됨
+        try {
+            ChatParticipants participant = ChatParticipants.builder()
+                    .chatRoom(chatRoom)
+                    .user(userRepository.getReferenceById(userId))
+                    .lastReadMessageId(0L)
+                    .build();
+            chatParticipantsRepository.saveAndFlush(participant);
+            chatRoom.addParticipant(participant);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.ALREADY_PARTICIPATED);
+        }
     }
 
     private void addParticipant(ChatRoom chatRoom, User user) {
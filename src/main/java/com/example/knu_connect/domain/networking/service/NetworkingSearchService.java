@@ -0,0 +1,65 @@
+package com.example.knu_connect.domain.networking.service;
+
+import com.example.knu_connect.domain.networking.entitiy.Networking;
+import com.example.knu_connect.domain.networking.repository.NetworkingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 네트워킹 게시글 키워드 검색 (제목 + 내용)
+// - fulltext 모드(운영, MySQL): FULLTEXT(ngram) 인덱스로 키워드가 포함된 게시글을 찾아 관련도 순으로 정렬
+//   ngram 토큰보다 짧은 키워드는 인덱스로 찾을 수 없으므로 LIKE 검색
+//   인덱스는 불용어 없이 생성해야 함 (application-prod.properties 참고, 기본 불용어를 포함한 ngram 토큰은 인덱스에서 빠짐)
+// - like 모드(개발, H2): LIKE '%키워드%' 검색 (최신 정렬 등 요청한 정렬 유지)
+// - 전체 개수(COUNT) 대신 한 건 더 조회하여 다음 페이지 여부만 확인
+@Service
+public class NetworkingSearchService {
+
+    private final NetworkingRepository networkingRepository;
+    private final boolean fullTextEnabled;
+    private final int ngramTokenSize;
+
+    public NetworkingSearchService(NetworkingRepository networkingRepository,
+                                   @Value("${networking.search.mode:like}") String mode,
+                                   @Value("${networking.search.ngram-token-size:2}") int ngramTokenSize) {
+        this.networkingRepository = networkingRepository;
+        this.fullTextEnabled = "fulltext".equalsIgnoreCase(mode);
+        this.ngramTokenSize = ngramTokenSize;
+    }
+
+    public Slice<Networking> search(String keyword, Pageable pageable) {
+        String trimmed = keyword.trim();
+        // 구문 검색용 큰따옴표 안에 들어갈 수 없는 문자 제거
+        String phrase = trimmed.replace("\"", "").trim();
+
+        if (!fullTextEnabled || phrase.codePointCount(0, phrase.length()) < ngramTokenSize) {
+            return networkingRepository.findByTitleContainingOrContentsContaining(trimmed, trimmed, pageable);
+        }
+
+        int size = pageable.getPageSize();
+        List<Long> ids = networkingRepository.searchIdsByFullText(
+                phrase, "\"" + phrase + "\"", size + 1, pageable.getOffset());
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        if (pageIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        // 관련도 순서를 유지하며 게시글 조회 (조회 사이에 삭제된 게시글은 제외)
+        Map<Long, Networking> networkingsById = networkingRepository.findByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Networking::getId, Function.identity()));
+        List<Networking> content = pageIds.stream()
+                .map(networkingsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
@@ -5,23 +5,25 @@ import com.example.knu_connect.domain.networking.dto.request.NetworkingUpdateReq
 import com.example.knu_connect.domain.networking.dto.response.MyNetworkingListResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.NetworkingDetailResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.NetworkingListResponseDto;
+import com.example.knu_connect.domain.networking.dto.response.NetworkingScrollResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.ParticipantsResponseDto;
-import com.example.knu_connect.domain.user.entity.User;
 import org.springframework.data.domain.Pageable;
 
 public interface NetworkingService {
 
-    void createNetworking(User user, NetworkingCreateRequestDto request, Long chatRoomId);
+    void createNetworking(Long userId, NetworkingCreateRequestDto request, Long chatRoomId);
 
-    NetworkingListResponseDto getNetworkingList(User user, String keyword, Pageable pageable);
+    NetworkingListResponseDto getNetworkingList(Long userId, String keyword, Pageable pageable);
 
-    NetworkingDetailResponseDto getNetworkingDetail(User user, Long networkingId);
+    NetworkingScrollResponseDto scrollNetworkingList(Long userId, String cursor, int size);
 
-    void updateNetworking(User user, NetworkingUpdateRequestDto request, Long networkingId);
+    NetworkingDetailResponseDto getNetworkingDetail(Long userId, Long networkingId);
 
-    MyNetworkingListResponseDto getMyNetworkingList(User user, Pageable pageable);
+    void updateNetworking(Long userId, NetworkingUpdateRequestDto request, Long networkingId);
 
-    ParticipantsResponseDto getNetworkingParticipants(User user, Long networkingId);
+    MyNetworkingListResponseDto getMyNetworkingList(Long userId, Pageable pageable);
 
-    void joinNetworking(User user, Long networkingId);
+    ParticipantsResponseDto getNetworkingParticipants(Long userId, Long networkingId);
+
+    void joinNetworking(Long userId, Long networkingId);
 }
@@ -2,9 +2,9 @@ package com.example.knu_connect.domain.user.controller;
 
 import com.example.knu_connect.domain.user.dto.request.UserUpdateRequestDto;
 import com.example.knu_connect.domain.user.dto.response.UserInfoResponseDto;
-import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.service.UserService;
 import com.example.knu_connect.global.annotation.AuthUser;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -37,8 +37,8 @@ public class UserController {
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content)
     })
     @GetMapping
-    public ResponseEntity<UserInfoResponseDto> getUserInfo(@AuthUser User user) {
-        UserInfoResponseDto response = userService.getUserInfo(user.getId());
+    public ResponseEntity<UserInfoResponseDto> getUserInfo(@AuthUser AuthPrincipal principal) {
+        UserInfoResponseDto response = userService.getUserInfo(principal.userId());
         return ResponseEntity.ok(response);
     }
 
@@ -53,8 +53,8 @@ public class UserController {
     })
     @PatchMapping
     public ResponseEntity<Void> updateUserInfo(@Valid @RequestBody UserUpdateRequestDto request,
-                                               @AuthUser User user) {
-        userService.updateUserInfo(user.getId(), request);
+                                               @AuthUser AuthPrincipal principal) {
+        userService.updateUserInfo(principal.userId(), request);
         return ResponseEntity.ok().build();
     }
 }
@@ -8,7 +8,10 @@ import lombok.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 멘토 목록 최근 가입순 키셋 페이지네이션 (mentor = true, created_at DESC, id DESC)
+        @Index(name = "idx_users_mentor_created_at_id", columnList = "mentor, created_at, id")
+})
 public class User extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,5 @@
+package com.example.knu_connect.domain.user.event;
+
+// 인증 주체(CustomUserDetails)로 캐시된 사용자 정보가 바뀌었을 때 발행 (커밋 이후 캐시 무효화)
+public record UserPrincipalChangedEvent(String email) {
+}
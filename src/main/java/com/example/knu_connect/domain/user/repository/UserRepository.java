@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
@@ -14,4 +15,5 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
 
     // Mentor
     Optional<User> findByIdAndMentor(Long id, boolean mentor);
+    List<User> findByMentorTrueOrderByIdAsc();
 }
\ No newline at end of file
@@ -3,10 +3,12 @@ package com.example.knu_connect.domain.user.service;
 import com.example.knu_connect.domain.user.dto.request.UserUpdateRequestDto;
 import com.example.knu_connect.domain.user.dto.response.UserInfoResponseDto;
 import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.domain.user.event.UserPrincipalChangedEvent;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserInfoResponseDto getUserInfo(Long userId) {
@@ -50,5 +53,8 @@ public class UserService {
                 dto.introduction(),
                 dto.detailIntroduction()
         );
+
+        // 커밋 이후 캐시된 인증 주체 무효화
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getEmail()));
     }
 }
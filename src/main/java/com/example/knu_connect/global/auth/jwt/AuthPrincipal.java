@@ -0,0 +1,18 @@
+package com.example.knu_connect.global.auth.jwt;
+
+import com.example.knu_connect.domain.user.entity.User;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+// 서명된 액세스 토큰 claim만으로 만든 인증 주체 (DB 조회 없이 생성)
+// - getName()은 사용자 ID 문자열로, STOMP 사용자 목적지(convertAndSendToUser)의 사용자 이름과 일치
+public record AuthPrincipal(Long userId, String email, boolean mentor) implements AuthenticatedPrincipal {
+
+    public static AuthPrincipal from(User user) {
+        return new AuthPrincipal(user.getId(), user.getEmail(), user.isMentor());
+    }
+
+    @Override
+    public String getName() {
+        return userId.toString();
+    }
+}
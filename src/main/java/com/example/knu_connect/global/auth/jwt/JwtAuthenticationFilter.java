@@ -7,7 +7,6 @@ import com.example.knu_connect.global.exception.dto.ErrorResponseDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -16,7 +15,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -33,8 +31,8 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService customUserDetailsService;
-    private final StringRedisTemplate redisTemplate;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
@@ -57,31 +55,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            // 로그아웃한 토큰인지 확인
-            if (Boolean.TRUE.equals(redisTemplate.hasKey("token:blacklist:" + accessToken))) {
+            // 토큰 파싱하여 claim 가지고 오기 (검증도 같이)
+            TokenClaims claims = jwtUtil.parse(accessToken);
+            String email = claims.email();
+
+            // 로그아웃한 토큰인지 확인 (토큰 ID 기준)
+            if (tokenBlacklistFilter.isRevoked(accessToken, claims)) {
                 throw new BusinessException(ErrorCode.BLACKLIST_TOKEN);
             }
 
-            // 토큰 파싱하여 claim 가지고 오기 (검증도 같이)
-            Claims claims = jwtUtil.getClaims(accessToken);
-            String tokenType = claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class);
-            String email = claims.getSubject();
-
             // 액세스 토큰인지 확인
-            if (!JwtUtil.ACCESS_TOKEN_TYPE.equals(tokenType)) {
+            if (!claims.isAccessToken()) {
                 throw new BusinessException(ErrorCode.INVALID_TOKEN_TYPE);
             }
 
             // SecurityContext에 인증정보가 없을 때만 설정
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                CustomUserDetails userDetails = (CustomUserDetails) customUserDetailsService.loadUserByUsername(email);
+                // 토큰 claim으로 인증 주체 생성 (사용자 ID가 없는 이전 형식 토큰은 사용자 정보 조회)
+                AuthPrincipal principal = claims.toPrincipal();
+                if (principal == null) {
+                    principal = userPrincipalCache.get(email);
+                }
 
                 // 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                principal,
                                 null,
-                                userDetails.getAuthorities()
+                                Collections.emptyList()
                         );
 
                 // SecurityContextHolder에 인증 정보 등록
@@ -1,15 +1,24 @@
 package com.example.knu_connect.global.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 public class JwtUtil {
@@ -19,22 +28,52 @@ public class JwtUtil {
     public static final String ACCESS_TOKEN_TYPE = "access";
     public static final String REFRESH_TOKEN_TYPE = "refresh";
 
+    // 액세스 토큰에 담는 사용자 정보 Claim 키 (필터에서 DB 조회 없이 인증 주체 생성)
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String MENTOR_CLAIM = "mentor";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final SecretKey secretKey;  // 비밀 키
     private final long accessExp;   // 엑세스 토큰 유효시간
     private final long refreshExp;  // 리프레시 토큰 유효시간
+    private final JwtParser jwtParser;  // 검증용 파서 (불변 객체라 스레드 간 공유 가능)
+
+    // 최근 검증한 토큰 캐시 (토큰 SHA-256 해시 → claim), 토큰 만료 시각보다 오래 보관하지 않음
+    private final Cache<String, TokenClaims> verifiedTokens;
+    private final long verifiedCacheTtlMillis;
 
     public JwtUtil(@Value("${spring.jwt.secret}") String secret,
                    @Value("${spring.jwt.access-token-expiration}") long accessExp,
-                   @Value("${spring.jwt.refresh-token-expiration}") long refreshExp) {
+                   @Value("${spring.jwt.refresh-token-expiration}") long refreshExp,
+                   @Value("${spring.jwt.verified-cache.ttl-seconds:300}") long verifiedCacheTtlSeconds,
+                   @Value("${spring.jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize) {
         byte[] keyBytes = Base64.getDecoder().decode(secret);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
         this.accessExp = accessExp;
         this.refreshExp = refreshExp;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedCacheTtlMillis = Duration.ofSeconds(verifiedCacheTtlSeconds).toMillis();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     // 토큰 생성 (access, refresh)
-    public String createAccessToken(String email) {  // 엑세스 토큰 생성
-        return createJwt(email, accessExp, ACCESS_TOKEN_TYPE);
+    public String createAccessToken(Long userId, String email, boolean mentor) {  // 엑세스 토큰 생성
+        return Jwts.builder()
+                .id(newTokenId())
+                .subject(email)
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(MENTOR_CLAIM, mentor)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + accessExp * 1000L))
+                .signWith(secretKey)
+                .compact();
     }
 
     public String createRefreshToken(String email) { // 리프레시 토큰 생성
@@ -43,6 +82,7 @@ public class JwtUtil {
 
     public String createJwt(String email, long exp, String tokenType) {
         return Jwts.builder()
+                .id(newTokenId())
                 .subject(email)
                 .claim(TOKEN_TYPE_CLAIM, tokenType) // 토큰 타입을 지정하여 액세스인지, 리프레쉬 토큰인지 확인하도록 함
                 .issuedAt(new Date())
@@ -53,23 +93,84 @@ public class JwtUtil {
 
     // get 메서드 + 유효성 검사도 같이
     public String getEmail(String token) {
-        return getClaims(token).getSubject();
+        return parse(token).email();
     }
 
-    public long getExpiration(String token) { return getClaims(token).getExpiration().getTime(); }
+    public long getExpiration(String token) { return parse(token).expiration(); }
 
     // 토큰 타입 추출
     public String getTokenType(String token) {
-        return getClaims(token).get(TOKEN_TYPE_CLAIM, String.class);
+        return parse(token).tokenType();
+    }
+
+    // 토큰을 한 번만 검증하고 필요한 claim을 모두 추출
+    // 최근에 검증한 토큰이면 서명 검증(HMAC)과 JSON 파싱을 생략
+    public TokenClaims parse(String token) {
+        String key = hash(token);
+        TokenClaims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiration() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        // 검증 실패(만료, 위조 등) 시 예외를 그대로 던지고 캐시하지 않음
+        TokenClaims tokenClaims = toTokenClaims(getClaims(token), key);
+        verifiedTokens.put(key, tokenClaims);
+        return tokenClaims;
     }
 
-    // 토큰 검증 수행하면서 모든 Claims 추출
+    // 토큰 검증 수행하면서 모든 Claims 추출 (캐시 사용 안 함)
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    // Redis 키로 쓸 토큰 식별자: jti, jti가 없는 이전 형식 토큰이면 토큰 SHA-256 해시 (고정 길이)
+    private TokenClaims toTokenClaims(Claims claims, String tokenHash) {
+        String tokenId = claims.getId();
+        return new TokenClaims(
+                tokenId,
+                tokenId != null ? tokenId : tokenHash,
+                claims.getSubject(),
+                claims.get(TOKEN_TYPE_CLAIM, String.class),
+                claims.get(USER_ID_CLAIM, Long.class),
+                Boolean.TRUE.equals(claims.get(MENTOR_CLAIM, Boolean.class)),
+                claims.getExpiration().getTime()
+        );
     }
 
+    // 토큰 ID (jti): 128비트 난수를 Base64 URL 인코딩한 22자 문자열
+    private static String newTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 원본 토큰 대신 SHA-256 해시를 캐시 키로 사용 (메모리에 토큰을 그대로 보관하지 않음)
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // 항목 유지 시간 = min(캐시 TTL, 토큰 남은 유효시간)
+    private class TokenExpiry implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims value, long currentTime) {
+            long remainingMillis = value.expiration() - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(0, Math.min(verifiedCacheTtlMillis, remainingMillis))).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package com.example.knu_connect.global.auth.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 로그아웃(블랙리스트) 토큰 ID 로컬 Bloom filter (Redis 블랙리스트 조회 앞단)
+// - 필터에 없으면 블랙리스트 토큰이 아님이 확실하므로 Redis를 조회하지 않음
+// - 필터에 있으면(오탐 가능) Redis에서 실제 여부 확인
+// - 로그아웃 시 Redis Pub/Sub으로 모든 인스턴스의 필터에 추가
+// - 만료된 항목 정리와 놓친 Pub/Sub 메시지 보정을 위해 주기적으로 Redis SCAN 결과로 재구성
+// - 아직 Redis에서 적재하지 못했다면 모든 토큰을 "있을 수 있음"으로 보고 Redis를 조회
+@Slf4j
+@Component
+public class TokenBlacklistFilter implements MessageListener {
+
+    public static final String KEY_PREFIX = "token:blacklist:";
+    public static final String CHANNEL = "auth:blacklist:events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 재구성 중 추가된 토큰이 새 필터에서 빠지지 않도록 교체 구간을 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile BloomFilter current;
+    private BloomFilter building;
+
+    public TokenBlacklistFilter(RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                @Value("${auth.blacklist.filter.expected-insertions:100000}") int expectedInsertions,
+                                @Value("${auth.blacklist.filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 로그아웃한 토큰인지 확인 (로컬 필터에 있을 가능성이 있을 때만 Redis 조회)
+    // jti가 없는 이전 형식 토큰은 전체 토큰 문자열로 저장된 키도 확인 (jti 도입 전에 로그아웃한 토큰)
+    public boolean isRevoked(String token, TokenClaims claims) {
+        if (isBlacklisted(claims.tokenKey())) {
+            return true;
+        }
+        return claims.isLegacy() && isBlacklisted(token);
+    }
+
+    // 블랙리스트에 있을 가능성이 있는지 확인 (false면 확실히 없음)
+    public boolean mightBeRevoked(String tokenKey) {
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(tokenKey);
+    }
+
+    // 로그아웃 처리 후 호출: 현재 인스턴스에 추가하고 다른 인스턴스에 전파
+    public void add(String tokenKey) {
+        addLocal(tokenKey);
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenKey);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish blacklist event: {}", e.getMessage());
+        }
+    }
+
+    private boolean isBlacklisted(String tokenKey) {
+        return mightBeRevoked(tokenKey) && Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenKey));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 기동 직후와 이후 주기적으로 Redis의 블랙리스트 키로 필터 재구성 (만료된 키는 자연히 제외)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.blacklist.filter.rebuild-interval-ms:60000}",
+            initialDelayString = "${auth.blacklist.filter.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        lock.lock();
+        try {
+            building = next;
+        } finally {
+            lock.unlock();
+        }
+
+        int count = 0;
+        try (Cursor<String> keys = redisTemplate.scan(
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (keys.hasNext()) {
+                next.put(keys.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+        } catch (RuntimeException e) {
+            // 실패 시 기존 필터 유지 (최초 적재 전이면 계속 Redis 조회)
+            log.warn("Failed to rebuild token blacklist filter: {}", e.getMessage());
+            lock.lock();
+            try {
+                building = null;
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+
+        lock.lock();
+        try {
+            current = next;
+            building = null;
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Token blacklist filter rebuilt with {} entries", count);
+    }
+
+    private void addLocal(String tokenKey) {
+        lock.lock();
+        try {
+            if (current != null) {
+                current.put(tokenKey);
+            }
+            if (building != null) {
+                building.put(tokenKey);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 고정 크기 Bloom filter (비트 배열은 락 없이 읽을 수 있도록 AtomicLongArray 사용)
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, size);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        }
+
+        void put(String value) {
+            long[] hashes = hash(value);
+            for (int i = 0; i < hashCount; i++) {
+                long index = index(hashes, i);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                bits.getAndUpdate(word, bit -> bit | mask);
+            }
+        }
+
+        boolean mightContain(String value) {
+            long[] hashes = hash(value);
+            for (int i = 0; i < hashCount; i++) {
+                long index = index(hashes, i);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // double hashing: h1 + i * h2
+        private long index(long[] hashes, int i) {
+            return Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+        }
+
+        private static long[] hash(String value) {
+            try {
+                ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                        .digest(value.getBytes(StandardCharsets.UTF_8)));
+                return new long[]{digest.getLong(), digest.getLong()};
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.knu_connect.global.auth.jwt;
+
+// 검증을 마친 토큰에서 한 번에 추출한 claim 값
+// - tokenId: jti (이전 형식 토큰이면 null)
+// - tokenKey: 블랙리스트/리프레시 토큰 Redis 키에 쓰는 식별자 (jti 또는 토큰 SHA-256 해시)
+// - userId: 액세스 토큰에만 존재 (리프레시 토큰이나 이전 형식 토큰이면 null)
+public record TokenClaims(String tokenId, String tokenKey, String email, String tokenType,
+                          Long userId, boolean mentor, long expiration) {
+
+    public boolean isAccessToken() {
+        return JwtUtil.ACCESS_TOKEN_TYPE.equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtUtil.REFRESH_TOKEN_TYPE.equals(tokenType);
+    }
+
+    // jti 도입 전에 발급된 토큰 (Redis에 전체 토큰 문자열 키로 저장되어 있을 수 있음)
+    public boolean isLegacy() {
+        return tokenId == null;
+    }
+
+    // 토큰 claim으로 인증 주체 생성 (사용자 ID가 없는 이전 형식 토큰이면 null)
+    public AuthPrincipal toPrincipal() {
+        return userId == null ? null : new AuthPrincipal(userId, email, mentor);
+    }
+}
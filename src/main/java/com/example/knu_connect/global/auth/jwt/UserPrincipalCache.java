@@ -0,0 +1,103 @@
+package com.example.knu_connect.global.auth.jwt;
+
+import com.example.knu_connect.domain.user.event.UserPrincipalChangedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+// 인증 주체 로컬 캐시 (CustomUserDetailsService 앞단)
+// - 토큰 subject(이메일) 기준으로 짧은 TTL 동안 보관하여 요청마다 users 조회를 하지 않음
+// - 여러 요청/스레드가 함께 읽으므로 엔티티가 아닌 불변 인증 주체(AuthPrincipal)만 보관
+// - 사용자 정보 변경/회원가입 커밋 이후 Redis Pub/Sub으로 모든 인스턴스의 항목을 무효화
+// - Pub/Sub 메시지를 놓치더라도 TTL이 지나면 DB에서 다시 조회
+// - DB 조회는 캐시 내부 락(ConcurrentHashMap.compute) 밖의 애플리케이션 task executor에서 실행
+//   (가상 스레드 모드에서는 가상 스레드로 실행되어 pinning 방지, 종료는 스프링이 관리)
+@Slf4j
+@Component
+public class UserPrincipalCache implements MessageListener {
+
+    public static final String CACHE_NAME = "auth.principal";
+    public static final String INVALIDATION_CHANNEL = "auth:principal:invalidate";
+
+    private final CustomUserDetailsService customUserDetailsService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AsyncCache<String, AuthPrincipal> principalsByEmail;
+
+    public UserPrincipalCache(CustomUserDetailsService customUserDetailsService,
+                              RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor loaderExecutor,
+                              @Value("${auth.principal.cache.ttl-seconds:300}") long ttlSeconds,
+                              @Value("${auth.principal.cache.maximum-size:10000}") long maximumSize) {
+        this.customUserDetailsService = customUserDetailsService;
+        this.redisTemplate = redisTemplate;
+        this.principalsByEmail = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .executor(loaderExecutor)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, principalsByEmail, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // 캐시에 없으면 DB에서 조회 (사용자가 없으면 UsernameNotFoundException, 캐시하지 않음)
+    public AuthPrincipal get(String email) {
+        CompletableFuture<AuthPrincipal> principal = principalsByEmail.get(email, (key, executor) ->
+                CompletableFuture.supplyAsync(() -> AuthPrincipal.from(
+                        ((CustomUserDetails) customUserDetailsService.loadUserByUsername(key)).getUser()), executor));
+        try {
+            return principal.join();
+        } catch (CompletionException e) {
+            // 실패한 조회 결과가 남아 다음 요청에 재사용되지 않도록 바로 제거
+            principalsByEmail.asMap().remove(email, principal);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 현재 인스턴스는 바로 무효화하고, 다른 인스턴스에 무효화 이벤트 발행
+    public void invalidate(String email) {
+        principalsByEmail.synchronous().invalidate(email);
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish principal invalidation for {}: {}", email, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPrincipalChanged(UserPrincipalChangedEvent event) {
+        invalidate(event.email());
+    }
+
+    // 다른 인스턴스에서 발행한 무효화 이벤트 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        principalsByEmail.synchronous().invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -1,13 +1,11 @@
 package com.example.knu_connect.global.auth.websocket;
 
-import com.example.knu_connect.domain.user.entity.User;
-import com.example.knu_connect.domain.user.repository.UserRepository;
-import com.example.knu_connect.global.auth.jwt.CustomUserDetails;
-import com.example.knu_connect.global.auth.jwt.CustomUserDetailsService;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
+import com.example.knu_connect.global.auth.jwt.UserPrincipalCache;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -20,13 +18,15 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -50,10 +50,9 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
                     // Message Header에도 저장 (스레드 간 공유 가능)
                     accessor.setHeader("simpUser", auth);
                     
-                    if (auth.getPrincipal() instanceof CustomUserDetails) {
-                        CustomUserDetails userDetails = (CustomUserDetails) auth.getPrincipal();
+                    if (auth.getPrincipal() instanceof AuthPrincipal principal) {
                         log.debug("WebSocket 메시지 처리 - 사용자: {}, 명령: {}", 
-                            userDetails.getUsername(), accessor.getCommand());
+                            principal.email(), accessor.getCommand());
                     }
                 }
             }
@@ -85,18 +84,19 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
             String token = authHeader.substring(7);
 
             try {
-                Claims claims = jwtUtil.getClaims(token);
-                String tokenType = claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class);
+                TokenClaims claims = jwtUtil.parse(token);
 
-                if (JwtUtil.ACCESS_TOKEN_TYPE.equals(tokenType)) {
-                    String email = claims.getSubject();
+                if (claims.isAccessToken()) {
+                    String email = claims.email();
 
-                    User user = userRepository.findByEmail(email)
-                            .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS));
+                    // 토큰 claim으로 인증 주체 생성 (사용자 ID가 없는 이전 형식 토큰은 사용자 정보 조회)
+                    AuthPrincipal principal = claims.toPrincipal();
+                    if (principal == null) {
+                        principal = userPrincipalCache.get(email);
+                    }
 
-                    CustomUserDetails customUserDetails = new CustomUserDetails(user);
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            customUserDetails, null, customUserDetails.getAuthorities());
+                            principal, null, Collections.emptyList());
 
                     // SecurityContext에 인증 정보 저장
                     SecurityContextHolder.getContext().setAuthentication(authentication);
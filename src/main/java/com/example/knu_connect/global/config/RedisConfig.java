@@ -1,11 +1,18 @@
 package com.example.knu_connect.global.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.RedisListenerExecutionFailedException;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+@Slf4j
 @Configuration
 public class RedisConfig {
 
@@ -22,4 +29,65 @@ public class RedisConfig {
         
         return template;
     }
+
+    public static final String STOMP_RELAY_LISTENER_CONTAINER = "stompRelayListenerContainer";
+
+    // Redis Pub/Sub 구독용 리스너 컨테이너 (인스턴스 간 로컬 캐시 무효화)
+    // 기동 시 Redis에 연결하지 못해도 애플리케이션은 뜨도록 함 (구독 기반 캐시는 TTL로 보정됨, 상태는 health에 표시)
+    @Bean
+    @Primary
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        ThreadPoolTaskExecutor listenerExecutor = listenerExecutor("redis-listener-");
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public void start() {
+                try {
+                    super.start();
+                } catch (RedisListenerExecutionFailedException e) {
+                    log.warn("Redis pub/sub subscription failed on startup: {}", e.getMessage());
+                }
+            }
+
+            @Override
+            public void destroy() throws Exception {
+                super.destroy();
+                listenerExecutor.shutdown();
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(listenerExecutor);
+        return container;
+    }
+
+    // STOMP 메시지 중계 전용 리스너 컨테이너 (chat.broker.mode=redis)
+    // - 캐시 무효화 리스너와 스레드를 나눠 중계 메시지 전달이 다른 리스너 처리에 밀리지 않게 함
+    // - 구독하지 못하면 다른 인스턴스의 메시지를 영영 받지 못하므로 기동 실패로 처리
+    //   (기동 이후 연결이 끊기면 컨테이너가 recovery-interval마다 다시 구독)
+    @Bean(name = STOMP_RELAY_LISTENER_CONTAINER)
+    @ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+    public RedisMessageListenerContainer stompRelayListenerContainer(RedisConnectionFactory connectionFactory) {
+        ThreadPoolTaskExecutor listenerExecutor = listenerExecutor("stomp-relay-listener-");
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public void destroy() throws Exception {
+                super.destroy();
+                listenerExecutor.shutdown();
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(listenerExecutor);
+        return container;
+    }
+
+    // 수신한 메시지를 단일 스레드에서 받은 순서대로 처리 (기본 executor는 메시지마다 새 스레드를 만들어 순서가 섞임)
+    public static ThreadPoolTaskExecutor listenerExecutor(String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.knu_connect.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+// Redis Pub/Sub 구독 상태 (/actuator/health의 redisSubscription)
+// - STOMP 중계를 구독하지 못한 인스턴스는 다른 인스턴스의 채팅 메시지를 받지 못하므로 DOWN
+// - 캐시 무효화만 구독하지 못한 경우는 로컬 캐시가 TTL로 보정되므로 UP으로 두고 상태만 표시
+@Component("redisSubscription")
+public class RedisSubscriptionHealthIndicator implements HealthIndicator {
+
+    private final RedisMessageListenerContainer cacheListenerContainer;
+    private final ObjectProvider<RedisMessageListenerContainer> stompRelayListenerContainer;
+
+    public RedisSubscriptionHealthIndicator(
+            RedisMessageListenerContainer cacheListenerContainer,
+            @Qualifier(RedisConfig.STOMP_RELAY_LISTENER_CONTAINER)
+            ObjectProvider<RedisMessageListenerContainer> stompRelayListenerContainer) {
+        this.cacheListenerContainer = cacheListenerContainer;
+        this.stompRelayListenerContainer = stompRelayListenerContainer;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up()
+                .withDetail("cacheInvalidation", state(cacheListenerContainer));
+
+        RedisMessageListenerContainer relay = stompRelayListenerContainer.getIfAvailable();
+        if (relay != null) {
+            builder.withDetail("stompRelay", state(relay));
+            if (!relay.isListening()) {
+                builder.down();
+            }
+        }
+        return builder.build();
+    }
+
+    private static String state(RedisMessageListenerContainer container) {
+        return container.isListening() ? "listening" : "not subscribed";
+    }
+}
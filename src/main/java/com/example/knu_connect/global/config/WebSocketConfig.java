@@ -2,24 +2,53 @@ package com.example.knu_connect.global.config;
 
 import com.example.knu_connect.global.auth.websocket.StompAuthChannelInterceptor;
 import com.example.knu_connect.global.resolver.WebSocketAuthUserArgumentResolver;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import java.util.List;
 
 @Configuration
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
     private final WebSocketAuthUserArgumentResolver webSocketAuthUserArgumentResolver;
+    private final ChannelPoolProperties inbound;
+    private final ChannelPoolProperties outbound;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final int messageSizeLimit;
+    private final boolean virtualThreads;
+
+    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           WebSocketAuthUserArgumentResolver webSocketAuthUserArgumentResolver,
+                           @Value("${chat.websocket.inbound.core-pool-size:8}") int inboundCorePoolSize,
+                           @Value("${chat.websocket.inbound.max-pool-size:16}") int inboundMaxPoolSize,
+                           @Value("${chat.websocket.inbound.queue-capacity:1000}") int inboundQueueCapacity,
+                           @Value("${chat.websocket.outbound.core-pool-size:8}") int outboundCorePoolSize,
+                           @Value("${chat.websocket.outbound.max-pool-size:16}") int outboundMaxPoolSize,
+                           @Value("${chat.websocket.outbound.queue-capacity:2000}") int outboundQueueCapacity,
+                           @Value("${chat.websocket.transport.send-time-limit-ms:10000}") int sendTimeLimitMillis,
+                           @Value("${chat.websocket.transport.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+                           @Value("${chat.websocket.transport.message-size-limit:65536}") int messageSizeLimit,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.webSocketAuthUserArgumentResolver = webSocketAuthUserArgumentResolver;
+        this.inbound = new ChannelPoolProperties(inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+        this.outbound = new ChannelPoolProperties(outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+        this.virtualThreads = virtualThreads;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
@@ -29,6 +58,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.setApplicationDestinationPrefixes("/app");
         // 특정 사용자에게 메시지 전송 시 prefix
         config.setUserDestinationPrefix("/user");
+        // outbound 채널이 여러 스레드로 처리되어도 세션별 메시지 순서 보장
+        config.setPreservePublishOrder(true);
     }
 
     @Override
@@ -39,10 +70,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS();
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        // 느린 클라이언트 보호: 세션별 전송 시간/버퍼 한도를 넘으면 해당 세션만 종료
+        registry.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // JWT 인증 인터셉터 등록
         registration.interceptors(stompAuthChannelInterceptor);
+        // 가상 스레드 모드: 메시지마다 가상 스레드로 처리하되 DB 작업이 있으므로 동시 처리 수는 max-pool-size로 제한
+        if (virtualThreads) {
+            registration.executor(virtualThreadExecutor("ws-inbound-", inbound.maxPoolSize()));
+            return;
+        }
+        // 클라이언트 → 서버 메시지 처리 스레드 풀 (DB 작업이 있으므로 커넥션 풀 크기를 고려해 제한)
+        registration.taskExecutor()
+                .corePoolSize(inbound.corePoolSize())
+                .maxPoolSize(inbound.maxPoolSize())
+                .queueCapacity(inbound.queueCapacity());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 가상 스레드 모드: 소켓 전송만 하므로 동시 처리 수 제한 없음 (느린 클라이언트는 전송 시간/버퍼 한도로 보호)
+        if (virtualThreads) {
+            registration.executor(virtualThreadExecutor("ws-outbound-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY));
+            return;
+        }
+        // 서버 → 클라이언트 메시지 전송 스레드 풀 (큐 크기 제한으로 폭주 시 무한히 쌓이지 않도록 함)
+        registration.taskExecutor()
+                .corePoolSize(outbound.corePoolSize())
+                .maxPoolSize(outbound.maxPoolSize())
+                .queueCapacity(outbound.queueCapacity());
     }
 
     @Override
@@ -50,4 +113,14 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // WebSocket용 @AuthUser ArgumentResolver 등록
         argumentResolvers.add(webSocketAuthUserArgumentResolver);
     }
+
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+
+    private record ChannelPoolProperties(int corePoolSize, int maxPoolSize, int queueCapacity) {
+    }
 }
@@ -9,6 +9,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다."),
     JSON_PARSE_ERROR(HttpStatus.BAD_REQUEST, "JSON_PARSE_ERROR", "요청 본문을 해석할 수 없습니다."),
     INVALID_AUTH_PRINCIPAL(HttpStatus.INTERNAL_SERVER_ERROR, "INVALID_AUTH_PRINCIPAL", "인증 객체가 잘못된 타입입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // Domain Common
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "ENTITY_NOT_FOUND", "요청한 대상을 찾을 수 없습니다."),
@@ -19,8 +20,9 @@ public enum ErrorCode {
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "EMAIL_ALREADY_EXISTS", "이미 가입된 계정 이메일입니다."),
     INVALID_VERIFICATION_CODE(HttpStatus.BAD_REQUEST, "INVALID_VERIFICATION_CODE", "인증번호가 일치하지 않습니다."),
     VERIFICATION_CODE_EXPIRED(HttpStatus.BAD_REQUEST, "VERIFICATION_CODE_EXPIRED", "인증번호가 만료되었습니다."),
-    EMAIL_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "EMAIL_SEND_FAILED", "이메일 전송 실패"),
     EMAIL_BUILD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "EMAIL_BUILD_FAILED", "이메일 메시지 생성 실패"),
+    EMAIL_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "EMAIL_QUEUE_FULL", "이메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    EMAIL_STATUS_NOT_FOUND(HttpStatus.NOT_FOUND, "EMAIL_STATUS_NOT_FOUND", "이메일 발송 요청을 찾을 수 없습니다."),
     REDIS_CONNECTION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "REDIS_CONNECTION_FAILED", "Redis 연결 실패"),
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "AUTHENTICATION_FAILED", "로그인 인증 실패"),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "EXPIRED_TOKEN", "토큰이 만료되었습니다."),
@@ -1,11 +1,13 @@
 package com.example.knu_connect.global.exception.common;
 
 import com.example.knu_connect.global.exception.dto.ErrorResponseDto;
+import com.example.knu_connect.global.ratelimit.RateLimitExceededException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -39,6 +41,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(code.status).body(body);
     }
 
+    // 요청 제한 초과 (다음 토큰까지 남은 시간을 Retry-After 헤더로 전달)
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handleRateLimitExceeded(RateLimitExceededException e, WebRequest req) {
+        ErrorCode code = e.getErrorCode();
+        ErrorResponseDto body = ErrorResponseDto.of(code, e.getMessage(), Collections.emptyList(), path(req));
+        return ResponseEntity.status(code.status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(body);
+    }
+
     // DTO 검증 실패 (@Valid)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDto> handleMethodArgumentNotValid(
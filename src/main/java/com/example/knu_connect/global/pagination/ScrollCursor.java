@@ -0,0 +1,53 @@
+package com.example.knu_connect.global.pagination;
+
+import com.example.knu_connect.global.exception.common.BusinessException;
+import com.example.knu_connect.global.exception.common.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 키셋(커서) 페이지네이션 위치: 마지막으로 받은 항목의 (생성일시, ID)
+// 클라이언트에는 "생성일시|ID"를 Base64(URL-safe)로 인코딩한 문자열로 전달
+public record ScrollCursor(LocalDateTime createdAt, Long id) {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null 또는 빈 문자열이면 첫 페이지 (null 반환)
+    public static ScrollCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            if (delimiter < 0) {
+                throw invalidCursor();
+            }
+            return new ScrollCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static void checkSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "size는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    private static BusinessException invalidCursor() {
+        return new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+    }
+}
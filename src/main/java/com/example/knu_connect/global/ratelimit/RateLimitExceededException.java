@@ -0,0 +1,19 @@
+package com.example.knu_connect.global.ratelimit;
+
+import com.example.knu_connect.global.exception.common.BusinessException;
+import com.example.knu_connect.global.exception.common.ErrorCode;
+
+// 요청 제한 초과 (응답의 Retry-After 헤더로 다음 토큰까지 남은 시간을 전달)
+public class RateLimitExceededException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS, "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
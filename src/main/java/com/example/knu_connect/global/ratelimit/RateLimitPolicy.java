@@ -0,0 +1,12 @@
+package com.example.knu_connect.global.ratelimit;
+
+import java.time.Duration;
+
+// 토큰 버킷 정책: 최대 capacity개까지 모아둘 수 있고, refillInterval마다 1개씩 충전
+public record RateLimitPolicy(String name, int capacity, Duration refillInterval) {
+
+    // 버킷이 비었다가 가득 찰 때까지 걸리는 시간 (이후에는 버킷 상태를 보관할 필요 없음)
+    public long fullRefillMillis() {
+        return capacity * refillInterval.toMillis();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.knu_connect.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 토큰 버킷 방식 요청 제한
+// - Redis(ratelimit:{정책}:{식별자})에 버킷을 두고 Lua 스크립트로 충전/차감을 원자적으로 처리하여 모든 인스턴스가 한도를 공유
+// - 여러 버킷을 차례로 확인하는 호출자는 뒤 버킷에서 거절되면 release()로 앞 버킷의 토큰을 돌려줌
+// - Redis 장애 시 인스턴스 로컬 버킷으로 대체 (한도가 인스턴스별로 적용됨), fallback-cooldown 동안은 Redis를 다시 호출하지 않음
+// - 메트릭: ratelimit.requests{policy, result=allowed|rejected}, ratelimit.fallback{policy}
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // KEYS: 버킷 키 / ARGV: 최대 토큰 수, 충전 간격(ms), 현재 시각(ms)
+    // 허용이면 0, 거절이면 다음 토큰까지 남은 시간(ms) 반환
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local interval = tonumber(ARGV[2]) " +
+            "local now = tonumber(ARGV[3]) " +
+            "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(bucket[1]) " +
+            "local ts = tonumber(bucket[2]) " +
+            "if tokens == nil then tokens = capacity ts = now end " +
+            "local refill = math.floor((now - ts) / interval) " +
+            "if refill > 0 then tokens = math.min(capacity, tokens + refill) ts = ts + refill * interval end " +
+            "if tokens >= capacity then ts = now end " +
+            "local wait = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 else wait = interval - (now - ts) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', ts) " +
+            "redis.call('PEXPIRE', KEYS[1], capacity * interval) " +
+            "return wait",
+            Long.class);
+
+    // KEYS: 버킷 키 / ARGV: 최대 토큰 수
+    // 버킷이 남아 있고 가득 차지 않았으면 토큰 1개 반환
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens')) " +
+            "if tokens ~= nil and tokens < tonumber(ARGV[1]) then " +
+            "redis.call('HSET', KEYS[1], 'tokens', tokens + 1) end " +
+            "return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, LocalBucket> localBuckets;
+    private final long fallbackCooldownMillis;
+    private volatile long redisRetryAt = 0;
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${ratelimit.local.maximum-size:100000}") long localMaximumSize,
+                       @Value("${ratelimit.fallback-cooldown-ms:5000}") long fallbackCooldownMillis) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.fallbackCooldownMillis = fallbackCooldownMillis;
+        this.localBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(1))
+                .maximumSize(localMaximumSize)
+                .build();
+    }
+
+    // 토큰 1개 사용, 남은 토큰이 없으면 TOO_MANY_REQUESTS (다음 토큰까지 남은 시간을 초 단위로 올림)
+    public void acquire(RateLimitPolicy policy, String identifier) {
+        long waitMillis = tryAcquire(policy, identifier);
+        if (waitMillis > 0) {
+            counter(policy, "rejected").increment();
+            log.info("요청 제한 초과: policy={}, id={}", policy.name(), identifier);
+            throw new RateLimitExceededException(Math.max(1, (waitMillis + 999) / 1000));
+        }
+        counter(policy, "allowed").increment();
+    }
+
+    // acquire()로 사용한 토큰 1개 반환 (최대 토큰 수를 넘지 않음)
+    public void release(RateLimitPolicy policy, String identifier) {
+        String key = KEY_PREFIX + policy.name() + ":" + identifier;
+
+        if (System.currentTimeMillis() >= redisRetryAt) {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), String.valueOf(policy.capacity()));
+                return;
+            } catch (DataAccessException e) {
+                log.warn("Redis 요청 제한 토큰 반환 실패: {}", e.getMessage());
+                return;
+            }
+        }
+
+        LocalBucket bucket = localBuckets.getIfPresent(key);
+        if (bucket != null) {
+            bucket.release(policy);
+        }
+    }
+
+    // 허용이면 0, 거절이면 다음 토큰까지 남은 시간(ms)
+    public long tryAcquire(RateLimitPolicy policy, String identifier) {
+        String key = KEY_PREFIX + policy.name() + ":" + identifier;
+        long now = System.currentTimeMillis();
+
+        if (now >= redisRetryAt) {
+            try {
+                Long waitMillis = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                        String.valueOf(policy.capacity()), String.valueOf(policy.refillInterval().toMillis()),
+                        String.valueOf(now));
+                return waitMillis == null ? 0 : waitMillis;
+            } catch (DataAccessException e) {
+                redisRetryAt = now + fallbackCooldownMillis;
+                log.warn("Redis 요청 제한 실패, 로컬 버킷으로 대체: {}", e.getMessage());
+            }
+        }
+
+        meterRegistry.counter("ratelimit.fallback", "policy", policy.name()).increment();
+        return localBuckets.get(key, k -> new LocalBucket(policy.capacity(), now)).tryConsume(policy, now);
+    }
+
+    private Counter counter(RateLimitPolicy policy, String result) {
+        return meterRegistry.counter("ratelimit.requests", "policy", policy.name(), "result", result);
+    }
+
+    // Redis 장애 시 사용하는 인스턴스 로컬 버킷 (Lua 스크립트와 같은 방식)
+    // synchronized 대신 ReentrantLock 사용 (가상 스레드가 락 대기 중 캐리어 스레드를 점유하지 않도록)
+    private static final class LocalBucket {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long tokens;
+        private long timestamp;
+
+        private LocalBucket(long tokens, long timestamp) {
+            this.tokens = tokens;
+            this.timestamp = timestamp;
+        }
+
+        private long tryConsume(RateLimitPolicy policy, long now) {
+            lock.lock();
+            try {
+                long interval = policy.refillInterval().toMillis();
+                long refill = (now - timestamp) / interval;
+                if (refill > 0) {
+                    tokens = Math.min(policy.capacity(), tokens + refill);
+                    timestamp += refill * interval;
+                }
+                if (tokens >= policy.capacity()) {
+                    timestamp = now;
+                }
+                if (tokens >= 1) {
+                    tokens--;
+                    return 0;
+                }
+                return interval - (now - timestamp);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void release(RateLimitPolicy policy) {
+            lock.lock();
+            try {
+                if (tokens < policy.capacity()) {
+                    tokens++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
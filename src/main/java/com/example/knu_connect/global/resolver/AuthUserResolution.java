@@ -0,0 +1,27 @@
+package com.example.knu_connect.global.resolver;
+
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
+import com.example.knu_connect.global.auth.jwt.CustomUserDetails;
+import com.example.knu_connect.global.exception.common.BusinessException;
+import com.example.knu_connect.global.exception.common.ErrorCode;
+
+// REST/WebSocket @AuthUser 공통 처리
+// - 토큰 claim으로 만든 불변 인증 주체(AuthPrincipal)만 전달 (DB 조회 없음)
+// - User 엔티티가 필요하면 서비스 트랜잭션 안에서 사용자 ID로 조회
+final class AuthUserResolution {
+
+    private AuthUserResolution() {
+    }
+
+    static AuthPrincipal resolve(Object principal) {
+        if (principal instanceof AuthPrincipal authPrincipal) {
+            return authPrincipal;
+        }
+
+        if (principal instanceof CustomUserDetails customUserDetails) {
+            return AuthPrincipal.from(customUserDetails.getUser());
+        }
+
+        throw new BusinessException(ErrorCode.INVALID_AUTH_PRINCIPAL);
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.knu_connect.global.resolver;
 
-import com.example.knu_connect.global.auth.jwt.CustomUserDetails;
-import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import com.example.knu_connect.global.annotation.AuthUser;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
@@ -20,7 +19,7 @@ public class RestAuthUserArgumentResolver implements HandlerMethodArgumentResolv
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(AuthUser.class)
-                && User.class.isAssignableFrom(parameter.getParameterType());
+                && AuthPrincipal.class.isAssignableFrom(parameter.getParameterType());
     }
 
     @Override
@@ -35,12 +34,6 @@ public class RestAuthUserArgumentResolver implements HandlerMethodArgumentResolv
             throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
 
-        Object principal = authentication.getPrincipal();
-
-        if (!(principal instanceof CustomUserDetails customUserDetails)) {
-            throw new BusinessException(ErrorCode.INVALID_AUTH_PRINCIPAL);
-        }
-
-        return customUserDetails.getUser();
+        return AuthUserResolution.resolve(authentication.getPrincipal());
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,7 @@
 package com.example.knu_connect.global.resolver;
 
-import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.global.annotation.AuthUser;
-import com.example.knu_connect.global.auth.jwt.CustomUserDetails;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
 import org.springframework.core.MethodParameter;
@@ -19,7 +18,7 @@ public class WebSocketAuthUserArgumentResolver implements HandlerMethodArgumentR
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(AuthUser.class)
-                && User.class.isAssignableFrom(parameter.getParameterType());
+                && AuthPrincipal.class.isAssignableFrom(parameter.getParameterType());
     }
 
     @Override
@@ -30,14 +29,10 @@ public class WebSocketAuthUserArgumentResolver implements HandlerMethodArgumentR
             Object user = accessor.getUser();
 
             if (user instanceof UsernamePasswordAuthenticationToken auth) {
-                Object principal = auth.getPrincipal();
-
-                if (principal instanceof CustomUserDetails customUserDetails) {
-                    return customUserDetails.getUser();
-                }
+                return AuthUserResolution.resolve(auth.getPrincipal());
             }
         }
 
         throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.example.knu_connect.global.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+// 단일 인스턴스용: 인메모리 Simple Broker로 바로 전송
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class LocalStompBroadcaster implements StompBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void sendToTopic(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+
+    @Override
+    public void sendToUser(Long userId, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(userId.toString(), destination, payload);
+    }
+}
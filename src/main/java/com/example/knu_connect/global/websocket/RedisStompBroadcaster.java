@@ -0,0 +1,89 @@
+package com.example.knu_connect.global.websocket;
+
+import com.example.knu_connect.global.config.RedisConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.UUID;
+
+// 다중 인스턴스용: 현재 인스턴스의 구독자에게 바로 전송하고, Redis Pub/Sub으로 다른 인스턴스에 중계
+// 다른 인스턴스는 중계 메시지를 받아 자신의 Simple Broker로 전송 (자신이 보낸 메시지는 무시)
+// 중계 구독은 전용 리스너 컨테이너 사용 (구독 실패 시 기동 실패, 구독 상태는 health에 표시)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisStompBroadcaster implements StompBroadcaster, MessageListener {
+
+    public static final String RELAY_CHANNEL = "stomp:relay";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisStompBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier(RedisConfig.STOMP_RELAY_LISTENER_CONTAINER)
+                                 RedisMessageListenerContainer listenerContainer) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        listenerContainer.addMessageListener(this, new ChannelTopic(RELAY_CHANNEL));
+    }
+
+    @Override
+    public void sendToTopic(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+        relay(null, destination, payload);
+    }
+
+    @Override
+    public void sendToUser(Long userId, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(userId.toString(), destination, payload);
+        relay(userId, destination, payload);
+    }
+
+    // 다른 인스턴스에서 중계된 메시지를 현재 인스턴스의 구독자에게 전송
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        StompRelayEnvelope envelope;
+        try {
+            envelope = objectMapper.readValue(message.getBody(), StompRelayEnvelope.class);
+        } catch (IOException e) {
+            log.warn("Ignored malformed STOMP relay message: {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(envelope.origin())) {
+            return;
+        }
+
+        if (envelope.userId() == null) {
+            messagingTemplate.convertAndSend(envelope.destination(), envelope.payload());
+        } else {
+            messagingTemplate.convertAndSendToUser(envelope.userId().toString(), envelope.destination(), envelope.payload());
+        }
+    }
+
+    private void relay(Long userId, String destination, Object payload) {
+        try {
+            StompRelayEnvelope envelope = new StompRelayEnvelope(
+                    nodeId, userId, destination, objectMapper.valueToTree(payload));
+            redisTemplate.convertAndSend(RELAY_CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Failed to relay STOMP message to {}", destination, e);
+        }
+    }
+}
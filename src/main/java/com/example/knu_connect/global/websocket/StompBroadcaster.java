@@ -0,0 +1,13 @@
+package com.example.knu_connect.global.websocket;
+
+// 서버에서 STOMP 구독자에게 메시지를 전송하는 통로 (chat.broker.mode로 구현 선택)
+// - simple : 현재 인스턴스에 연결된 구독자에게만 전송
+// - redis  : Redis Pub/Sub으로 모든 인스턴스에 중계하여 어느 인스턴스에 연결된 구독자든 수신
+public interface StompBroadcaster {
+
+    // 토픽 구독자 전체에게 전송 (예: /topic/chat-rooms/{id})
+    void sendToTopic(String destination, Object payload);
+
+    // 특정 사용자에게 전송 (예: /queue/chat-rooms/{id}/unread → /user/queue/...)
+    void sendToUser(Long userId, String destination, Object payload);
+}
@@ -0,0 +1,12 @@
+package com.example.knu_connect.global.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// 인스턴스 간 중계 메시지 (userId가 없으면 토픽 전송)
+public record StompRelayEnvelope(
+        String origin,
+        Long userId,
+        String destination,
+        JsonNode payload
+) {
+}
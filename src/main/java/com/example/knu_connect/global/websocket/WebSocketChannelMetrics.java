@@ -0,0 +1,64 @@
+package com.example.knu_connect.global.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// STOMP inbound/outbound 채널 스레드 풀 메트릭
+// - websocket.channel.queued: 처리 대기 중인 메시지 수 (큐 깊이)
+// - websocket.channel.active: 처리 중인 스레드 수
+// - websocket.channel.pool.size: 현재 스레드 수
+// 가상 스레드 모드(스레드 풀이 아닌 executor)에서는 등록하지 않음
+@Component
+public class WebSocketChannelMetrics implements MeterBinder {
+
+    private final Executor inboundExecutor;
+    private final Executor outboundExecutor;
+
+    public WebSocketChannelMetrics(@Qualifier("clientInboundChannelExecutor") Executor inboundExecutor,
+                                   @Qualifier("clientOutboundChannelExecutor") Executor outboundExecutor) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (inboundExecutor instanceof ThreadPoolTaskExecutor executor) {
+            bind(registry, "inbound", executor);
+        }
+        if (outboundExecutor instanceof ThreadPoolTaskExecutor executor) {
+            bind(registry, "outbound", executor);
+        }
+    }
+
+    private void bind(MeterRegistry registry, String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.channel.queued", executor, WebSocketChannelMetrics::queueSize)
+                .tag("channel", channel)
+                .description("Messages waiting in the STOMP channel queue")
+                .register(registry);
+        Gauge.builder("websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .description("Threads currently handling STOMP channel messages")
+                .register(registry);
+        Gauge.builder("websocket.channel.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("channel", channel)
+                .description("Current thread count of the STOMP channel pool")
+                .register(registry);
+    }
+
+    // 초기화 전이거나 종료된 경우 0
+    private static double queueSize(ThreadPoolTaskExecutor executor) {
+        try {
+            ThreadPoolExecutor threadPoolExecutor = executor.getThreadPoolExecutor();
+            return threadPoolExecutor.getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.knu_connect.integration.auth;
+
+import com.example.knu_connect.domain.auth.service.EmailDispatcher;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// 로컬 SMTP 서버(GreenMail)로 실제 메일이 전송되고, 서버가 멈춘 동안 실패한 메일이 재시도되는지 검증
+class EmailDispatcherIntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    private final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    private EmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        dispatcher = new EmailDispatcher(mailSender, redisTemplate, new SimpleMeterRegistry(), 100, 1, 20, 5, 200);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    private MimeMessage newMessage(String to) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom("noreply@knu-connect.com");
+        helper.setTo(to);
+        helper.setSubject("[KNU-connect] 이메일 인증 번호");
+        helper.setText("<p>123456</p>", true);
+        return message;
+    }
+
+    @Test
+    void 큐에_넣은_메일이_SMTP_서버로_전송됨() throws Exception {
+        // when
+        String lastRequestId = null;
+        for (int i = 0; i < 5; i++) {
+            lastRequestId = dispatcher.enqueue("user" + i + "@knu.ac.kr", newMessage("user" + i + "@knu.ac.kr"));
+        }
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(5000, 5)).isTrue();
+        assertThat(Arrays.stream(greenMail.getReceivedMessages())
+                .map(message -> {
+                    try {
+                        return message.getAllRecipients()[0].toString();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }))
+                .containsExactlyInAnyOrder("user0@knu.ac.kr", "user1@knu.ac.kr", "user2@knu.ac.kr",
+                        "user3@knu.ac.kr", "user4@knu.ac.kr");
+        verify(valueOperations, timeout(3000)).set("email:status:" + lastRequestId, "SENT", 10L, TimeUnit.MINUTES);
+    }
+
+    @Test
+    void SMTP_서버가_복구되면_재시도로_전송됨() throws Exception {
+        // given: SMTP 서버 중단
+        greenMail.stop();
+
+        // when
+        String requestId = dispatcher.enqueue("test@knu.ac.kr", newMessage("test@knu.ac.kr"));
+        verify(valueOperations, timeout(3000)).set("email:status:" + requestId, "RETRYING", 10L, TimeUnit.MINUTES);
+        greenMail.start();
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        verify(valueOperations, timeout(3000)).set("email:status:" + requestId, "SENT", 10L, TimeUnit.MINUTES);
+    }
+}
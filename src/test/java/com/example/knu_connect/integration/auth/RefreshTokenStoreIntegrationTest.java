@@ -0,0 +1,147 @@
+package com.example.knu_connect.integration.auth;
+
+import com.example.knu_connect.domain.auth.service.RefreshTokenStore;
+import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Lua 스크립트로 처리하는 세션 인덱스(최대 세션 수, 전체 로그아웃, 만료 세션 정리)를 실제 Redis에서 검증
+class RefreshTokenStoreIntegrationTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisPort));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        refreshTokenStore = new RefreshTokenStore(redisTemplate, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    private TokenClaims refreshClaims(String tokenId, long expiration) {
+        return new TokenClaims(tokenId, tokenId, "test@knu.ac.kr", JwtUtil.REFRESH_TOKEN_TYPE, null, false, expiration);
+    }
+
+    @Test
+    void 최대_세션_수를_넘으면_가장_오래된_세션을_로그아웃() {
+        // given
+        long now = System.currentTimeMillis();
+        TokenClaims first = refreshClaims("first", now + 60_000);
+        TokenClaims second = refreshClaims("second", now + 120_000);
+        TokenClaims third = refreshClaims("third", now + 180_000);
+
+        // when
+        refreshTokenStore.save(1L, first);
+        refreshTokenStore.save(1L, second);
+        long evicted = refreshTokenStore.save(1L, third);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(refreshTokenStore.exists("first-token", first)).isFalse();
+        assertThat(refreshTokenStore.exists("second-token", second)).isTrue();
+        assertThat(refreshTokenStore.exists("third-token", third)).isTrue();
+        assertThat(redisTemplate.opsForZSet().range("token:sessions:1", 0, -1)).containsExactly("second", "third");
+    }
+
+    @Test
+    void 모든_기기에서_로그아웃하면_사용자의_세션만_삭제() {
+        // given
+        long now = System.currentTimeMillis();
+        TokenClaims mine = refreshClaims("mine", now + 60_000);
+        TokenClaims other = refreshClaims("other", now + 60_000);
+        TokenClaims legacy = new TokenClaims(null, "legacy-hash", "test@knu.ac.kr",
+                JwtUtil.REFRESH_TOKEN_TYPE, null, false, now + 60_000);
+        refreshTokenStore.save(1L, mine);
+        refreshTokenStore.save(2L, other);
+        redisTemplate.opsForValue().set("token:refresh:legacy-refresh-token", "test@knu.ac.kr");
+        refreshTokenStore.track(1L, "legacy-refresh-token", legacy);
+
+        // when
+        long removed = refreshTokenStore.removeAll(1L);
+
+        // then
+        assertThat(removed).isEqualTo(2);
+        assertThat(refreshTokenStore.exists("mine-token", mine)).isFalse();
+        assertThat(refreshTokenStore.exists("legacy-refresh-token", legacy)).isFalse();
+        assertThat(refreshTokenStore.exists("other-token", other)).isTrue();
+        assertThat(redisTemplate.hasKey("token:sessions:1")).isFalse();
+    }
+
+    @Test
+    void 로그인시_만료된_세션은_인덱스에서_정리() {
+        // given: Refresh Token 키는 TTL로 이미 사라지고 인덱스에만 남은 세션
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add("token:sessions:1", "expired", now - 1_000);
+
+        // when
+        refreshTokenStore.save(1L, refreshClaims("current", now + 60_000));
+
+        // then
+        assertThat(redisTemplate.opsForZSet().range("token:sessions:1", 0, -1)).containsExactly("current");
+        assertThat(redisTemplate.getExpire("token:sessions:1")).isPositive();
+    }
+
+    @Test
+    void 로그아웃하면_해당_세션만_삭제() {
+        // given
+        long now = System.currentTimeMillis();
+        TokenClaims first = refreshClaims("first", now + 60_000);
+        TokenClaims second = refreshClaims("second", now + 60_000);
+        refreshTokenStore.save(1L, first);
+        refreshTokenStore.save(1L, second);
+
+        // when
+        refreshTokenStore.remove(1L, "first-token", first);
+
+        // then
+        assertThat(refreshTokenStore.exists("first-token", first)).isFalse();
+        assertThat(refreshTokenStore.exists("second-token", second)).isTrue();
+        assertThat(redisTemplate.opsForZSet().range("token:sessions:1", 0, -1)).containsExactly("second");
+    }
+}
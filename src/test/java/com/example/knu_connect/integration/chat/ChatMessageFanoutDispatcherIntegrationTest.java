@@ -0,0 +1,191 @@
+package com.example.knu_connect.integration.chat;
+
+import com.example.knu_connect.domain.chat.dto.response.ChatMessageResponseDto;
+import com.example.knu_connect.domain.chat.entitiy.ChatParticipants;
+import com.example.knu_connect.domain.chat.entitiy.ChatRoom;
+import com.example.knu_connect.domain.chat.event.ChatMessageSentEvent;
+import com.example.knu_connect.domain.chat.repository.ChatParticipantsRepository;
+import com.example.knu_connect.domain.chat.repository.ChatRoomRepository;
+import com.example.knu_connect.domain.chat.service.ChatMessageFanoutDispatcher;
+import com.example.knu_connect.domain.chat.service.ChatPresenceCache;
+import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.domain.user.entity.enums.*;
+import com.example.knu_connect.domain.user.repository.UserRepository;
+import com.example.knu_connect.global.websocket.StompBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+// 커밋 이후 콜백(요청 스레드)에서 후속 처리가 실행되어도 보낸 사람의 읽음 처리가 실제로 커밋되는지 검증
+// 큐가 가득 차도 요청 스레드를 무기한 붙잡지 않는지 검증
+// 커밋된 데이터를 확인해야 하므로 테스트 트랜잭션은 사용하지 않음
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatMessageFanoutDispatcherIntegrationTest {
+
+    @Autowired
+    private ChatParticipantsRepository chatParticipantsRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final StompBroadcaster stompBroadcaster = mock(StompBroadcaster.class);
+    private final ChatPresenceCache chatPresenceCache = mock(ChatPresenceCache.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private User sender;
+    private ChatRoom chatRoom;
+    private ChatParticipants participant;
+
+    @BeforeEach
+    void setUp() {
+        sender = userRepository.save(User.builder()
+                .name("보낸사람")
+                .email("sender@knu.ac.kr")
+                .password("password")
+                .status(Status.student)
+                .department(Department.computer)
+                .career(Career.employment)
+                .interest(Interest.backend)
+                .mbti(Mbti.ENFP)
+                .mentor(false)
+                .build());
+        chatRoom = chatRoomRepository.save(ChatRoom.create());
+        participant = chatParticipantsRepository.save(ChatParticipants.builder()
+                .user(sender)
+                .chatRoom(chatRoom)
+                .lastReadMessageId(0L)
+                .build());
+
+        // 보낸 사람은 채팅방을 열고 있음
+        given(chatPresenceCache.findActiveUserIds(eq(chatRoom.getId()), anyList())).willReturn(Set.of(sender.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatParticipantsRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 종료된_디스패처는_커밋_이후_콜백에서도_읽음_처리를_커밋() {
+        // given: 워커를 시작하지 않아 호출 스레드에서 처리
+        ChatMessageFanoutDispatcher dispatcher = dispatcher(1, 1);
+
+        // when
+        commitThenDispatch(dispatcher, event(5L));
+
+        // then
+        ChatParticipants reloaded = reloadParticipant();
+        assertThat(reloaded.getLastReadMessageId()).isEqualTo(5L);
+        assertThat(reloaded.getUnreadCount()).isZero();
+    }
+
+    @Test
+    void 큐가_가득_차면_기다리지_않고_overflow에_넣었다가_워커에서_읽음_처리를_커밋() throws Exception {
+        // given: 워커 1개, 큐 크기 1, 첫 메시지 브로드캐스트에서 워커를 붙잡아 큐를 가득 채움
+        ChatMessageFanoutDispatcher dispatcher = dispatcher(1, 1);
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> broadcasted = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            ChatMessageResponseDto message = invocation.getArgument(1);
+            if (message.messageId() == 1L) {
+                workerBusy.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            broadcasted.add(message.messageId());
+            return null;
+        }).when(stompBroadcaster).sendToTopic(anyString(), any());
+
+        dispatcher.start();
+        try {
+            dispatcher.dispatch(event(1L));
+            assertThat(workerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+            dispatcher.dispatch(event(2L));
+
+            // when: 큐가 가득 찬 상태에서 커밋 이후 콜백으로 메시지 전달
+            long startedAt = System.nanoTime();
+            commitThenDispatch(dispatcher, event(3L));
+            commitThenDispatch(dispatcher, event(4L));
+
+            // then: 요청 스레드는 offer-timeout-ms만 기다리고 반환, 이벤트는 overflow에 보관
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(2_000);
+            assertThat(meterRegistry.get("chat.fanout.overflow").gauge().value()).isEqualTo(2);
+
+            release.countDown();
+            awaitBroadcasts(broadcasted, 4);
+        } finally {
+            release.countDown();
+            dispatcher.stop();
+        }
+
+        // then: 큐의 이벤트를 먼저 처리하여 채팅방 내 순서 유지, 읽음 처리는 커밋됨
+        assertThat(broadcasted).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(meterRegistry.get("chat.fanout.overflow").gauge().value()).isZero();
+        ChatParticipants reloaded = reloadParticipant();
+        assertThat(reloaded.getLastReadMessageId()).isEqualTo(4L);
+        assertThat(reloaded.getUnreadCount()).isZero();
+    }
+
+    private void awaitBroadcasts(List<Long> broadcasted, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (broadcasted.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private void commitThenDispatch(ChatMessageFanoutDispatcher dispatcher, ChatMessageSentEvent event) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 다른 참여자가 보낸 메시지로 쌓인 안읽은 메시지 수
+            chatParticipantsRepository.incrementUnreadCount(chatRoom.getId(), -1L);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.dispatch(event);
+                }
+            });
+        });
+    }
+
+    private ChatMessageFanoutDispatcher dispatcher(int workerCount, int queueCapacity) {
+        return new ChatMessageFanoutDispatcher(stompBroadcaster, chatPresenceCache, chatParticipantsRepository,
+                transactionManager, meterRegistry, workerCount, queueCapacity, 1, 50);
+    }
+
+    private ChatMessageSentEvent event(Long messageId) {
+        return new ChatMessageSentEvent(chatRoom.getId(), new ChatMessageResponseDto(
+                messageId, sender.getId(), "보낸사람", "메시지 " + messageId, LocalDateTime.now()));
+    }
+
+    private ChatParticipants reloadParticipant() {
+        return chatParticipantsRepository.findById(participant.getId()).orElseThrow();
+    }
+}
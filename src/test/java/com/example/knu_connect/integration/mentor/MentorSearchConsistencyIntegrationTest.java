@@ -0,0 +1,97 @@
+package com.example.knu_connect.integration.mentor;
+
+import com.example.knu_connect.domain.mentor.dto.response.MentorListResponseDto;
+import com.example.knu_connect.domain.mentor.service.MentorIndex;
+import com.example.knu_connect.domain.mentor.service.MentorService;
+import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.domain.user.entity.enums.*;
+import com.example.knu_connect.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 같은 키워드로 인메모리 인덱스 조회와 DB(Specification) 조회 결과가 같은지 검증
+// H2 컬럼은 대소문자를 구분하므로 DB 조회가 collation에 기대면 결과가 달라짐
+@DataJpaTest
+class MentorSearchConsistencyIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MentorService indexedService;
+    private MentorService databaseService;
+
+    @BeforeEach
+    void setUp() {
+        saveMentor("spring@knu.ac.kr", "김철수", "Spring 백엔드 개발자");
+        saveMentor("boot@knu.ac.kr", "SPRING BOOT", null);
+        saveMentor("percent@knu.ac.kr", "이영희", "취업률 100% 달성");
+        saveMentor("underscore@knu.ac.kr", "박민수", "snake_case 좋아함");
+        saveMentor("other@knu.ac.kr", "최지훈", "100점 snakeXcase");
+
+        // 적재한 인덱스는 인덱스로, 적재하지 않은 인덱스는 DB로 조회
+        MentorIndex loaded = newIndex();
+        loaded.rebuild();
+        indexedService = new MentorService(userRepository, loaded);
+        databaseService = new MentorService(userRepository, newIndex());
+    }
+
+    private MentorIndex newIndex() {
+        @SuppressWarnings("unchecked")
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        return new MentorIndex(userRepository, redisTemplate, mock(RedisMessageListenerContainer.class),
+                Runnable::run, true);
+    }
+
+    private void saveMentor(String email, String name, String introduction) {
+        User user = User.builder()
+                .name(name)
+                .email(email)
+                .password("password")
+                .status(Status.graduate)
+                .department(Department.computer)
+                .career(Career.employment)
+                .interest(Interest.backend)
+                .mbti(Mbti.ENFP)
+                .mentor(true)
+                .build();
+        user.update(null, null, null, null, null, null, introduction, null);
+        userRepository.saveAndFlush(user);
+    }
+
+    private List<Long> search(MentorService service, String keyword) {
+        Pageable pageable = PageRequest.of(0, 20);
+        return service.getMentorList(null, null, keyword, pageable).mentors().stream()
+                .map(MentorListResponseDto.MentorDto::mentorId)
+                .toList();
+    }
+
+    @Test
+    void 같은_키워드는_인덱스와_DB에서_같은_멘토를_조회() {
+        List<String> keywords = List.of("spring", "  Spring  ", "SPRING", "100%", "e_c", "100", "\t", "없는키워드");
+
+        for (String keyword : keywords) {
+            // when
+            List<Long> indexed = search(indexedService, keyword);
+            List<Long> database = search(databaseService, keyword);
+
+            // then
+            assertThat(database).as("keyword [%s]", keyword).containsExactlyInAnyOrderElementsOf(indexed);
+        }
+
+        // 앞뒤 공백과 대소문자를 무시하고, %와 _는 문자 그대로 비교
+        assertThat(search(databaseService, "  Spring  ")).hasSize(2);
+        assertThat(search(databaseService, "100%")).hasSize(1);
+        assertThat(search(databaseService, "e_c")).hasSize(1);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.knu_connect.integration.networking;
+
+import com.example.knu_connect.domain.chat.repository.ChatParticipantsRepository;
+import com.example.knu_connect.domain.chat.repository.ChatRoomRepository;
+import com.example.knu_connect.domain.networking.dto.request.NetworkingCreateRequestDto;
+import com.example.knu_connect.domain.networking.entitiy.Networking;
+import com.example.knu_connect.domain.networking.repository.NetworkingRepository;
+import com.example.knu_connect.domain.networking.service.NetWorkingServiceImpl;
+import com.example.knu_connect.domain.networking.service.NetworkingSearchService;
+import com.example.knu_connect.domain.networking.service.NetworkingService;
+import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.domain.user.entity.enums.*;
+import com.example.knu_connect.domain.user.repository.UserRepository;
+import com.example.knu_connect.global.exception.common.BusinessException;
+import com.example.knu_connect.global.exception.common.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 하나의 네트워킹 게시글에 여러 스레드가 동시에 참여할 때 최대 인원을 넘지 않고, 같은 사용자가 중복 참여하지 않는지 검증
+// 각 참여 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않음
+@DataJpaTest
+@Import({NetWorkingServiceImpl.class, NetworkingSearchService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NetworkingJoinConcurrencyIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private NetworkingService networkingService;
+
+    @Autowired
+    private NetworkingRepository networkingRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatParticipantsRepository chatParticipantsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        chatParticipantsRepository.deleteAllInBatch();
+        networkingRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 여러_사용자가_마지막_자리에_동시에_참여해도_최대_인원을_넘지_않음() throws Exception {
+        // given: 대표자 1명 + 남은 자리 4개에 50명이 동시에 참여
+        List<User> users = saveUsers(51);
+        Networking networking = createNetworking(users.get(0), 5);
+        List<User> joiners = users.subList(1, users.size());
+
+        // when
+        List<Object> results = joinConcurrently(networking.getId(), joiners);
+
+        // then
+        Map<Object, Long> counts = countByResult(results);
+        assertThat(counts).containsOnlyKeys("joined", ErrorCode.NETWORKING_FULL);
+        assertThat(counts.get("joined")).isEqualTo(4L);
+
+        Networking reloaded = networkingRepository.findById(networking.getId()).orElseThrow();
+        assertThat(reloaded.getCurNumber()).isEqualTo(5);
+        assertThat(chatParticipantsRepository.countByChatRoomId(chatRoomIdOf(networking))).isEqualTo(5L);
+    }
+
+    @Test
+    void 같은_사용자가_동시에_여러_번_참여해도_한_번만_참여() throws Exception {
+        // given
+        List<User> users = saveUsers(2);
+        Networking networking = createNetworking(users.get(0), 10);
+        List<User> sameUser = IntStream.range(0, 30).mapToObj(i -> users.get(1)).toList();
+
+        // when
+        List<Object> results = joinConcurrently(networking.getId(), sameUser);
+
+        // then: 중복 참여는 존재 확인 또는 유니크 제약에서 차단되고, 확보했던 정원은 롤백으로 복구
+        Map<Object, Long> counts = countByResult(results);
+        assertThat(counts).containsOnlyKeys("joined", ErrorCode.ALREADY_PARTICIPATED);
+        assertThat(counts.get("joined")).isEqualTo(1L);
+
+        Networking reloaded = networkingRepository.findById(networking.getId()).orElseThrow();
+        assertThat(reloaded.getCurNumber()).isEqualTo(2);
+        assertThat(chatParticipantsRepository.countByChatRoomId(chatRoomIdOf(networking))).isEqualTo(2L);
+    }
+
+    // 요청을 모두 제출한 뒤 동시에 시작 (성공 시 "joined", 실패 시 ErrorCode, 그 외 예외는 그대로 전파)
+    private List<Object> joinConcurrently(Long networkingId, List<User> joiners) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (User joiner : joiners) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        networkingService.joinNetworking(joiner.getId(), networkingId);
+                        return "joined";
+                    } catch (BusinessException e) {
+                        return e.getErrorCode();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Object, Long> countByResult(List<Object> results) {
+        return results.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    private Networking createNetworking(User leader, int maxNumber) {
+        networkingService.createNetworking(leader.getId(),
+                new NetworkingCreateRequestDto("스터디 모집", "동시 참여 테스트", maxNumber, null), null);
+        return networkingRepository.findAll().get(0);
+    }
+
+    private Long chatRoomIdOf(Networking networking) {
+        return networkingRepository.findById(networking.getId())
+                .map(n -> n.getChatRoom().getId())
+                .orElseThrow();
+    }
+
+    private List<User> saveUsers(int count) {
+        return userRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> User.builder()
+                        .name("사용자" + i)
+                        .email("user" + i + "@knu.ac.kr")
+                        .password("password")
+                        .status(Status.student)
+                        .department(Department.computer)
+                        .career(Career.employment)
+                        .interest(Interest.backend)
+                        .mbti(Mbti.ENFP)
+                        .mentor(false)
+                        .build())
+                .toList());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.knu_connect.integration.ratelimit;
+
+import com.example.knu_connect.global.ratelimit.RateLimitPolicy;
+import com.example.knu_connect.global.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Lua 토큰 버킷이 여러 인스턴스에서 같은 한도를 공유하고, 시간이 지나면 충전되는지 검증
+class RateLimiterIntegrationTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RateLimiter nodeA;
+    private RateLimiter nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisPort));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        nodeA = new RateLimiter(redisTemplate, new SimpleMeterRegistry(), 1000, 5000);
+        nodeB = new RateLimiter(redisTemplate, new SimpleMeterRegistry(), 1000, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 여러_인스턴스가_같은_버킷을_공유() {
+        // given
+        RateLimitPolicy policy = new RateLimitPolicy("test", 3, Duration.ofMinutes(1));
+
+        // when & then
+        assertThat(nodeA.tryAcquire(policy, "10.0.0.1")).isZero();
+        assertThat(nodeB.tryAcquire(policy, "10.0.0.1")).isZero();
+        assertThat(nodeA.tryAcquire(policy, "10.0.0.1")).isZero();
+        assertThat(nodeB.tryAcquire(policy, "10.0.0.1")).isBetween(1L, 60_000L);
+
+        // 다른 식별자는 별도 버킷
+        assertThat(nodeB.tryAcquire(policy, "10.0.0.2")).isZero();
+    }
+
+    @Test
+    void 충전_간격이_지나면_다시_허용() throws InterruptedException {
+        // given
+        RateLimitPolicy policy = new RateLimitPolicy("refill", 1, Duration.ofMillis(200));
+        assertThat(nodeA.tryAcquire(policy, "test@knu.ac.kr")).isZero();
+        assertThat(nodeA.tryAcquire(policy, "test@knu.ac.kr")).isPositive();
+
+        // when
+        Thread.sleep(250);
+
+        // then
+        assertThat(nodeB.tryAcquire(policy, "test@knu.ac.kr")).isZero();
+    }
+}
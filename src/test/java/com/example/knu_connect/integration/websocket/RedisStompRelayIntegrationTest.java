@@ -0,0 +1,164 @@
+package com.example.knu_connect.integration.websocket;
+
+import com.example.knu_connect.domain.chat.dto.response.ChatMessageResponseDto;
+import com.example.knu_connect.domain.chat.dto.response.UnreadCountNotificationDto;
+import com.example.knu_connect.global.config.RedisConfig;
+import com.example.knu_connect.global.websocket.RedisStompBroadcaster;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 두 인스턴스(노드)가 같은 Redis를 통해 STOMP 메시지를 중계하는지 검증
+class RedisStompRelayIntegrationTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private final List<ThreadPoolTaskExecutor> listenerExecutors = new ArrayList<>();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private SimpMessagingTemplate templateA;
+    private SimpMessagingTemplate templateB;
+    private RedisStompBroadcaster nodeA;
+    private RedisStompBroadcaster nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        templateA = mock(SimpMessagingTemplate.class);
+        templateB = mock(SimpMessagingTemplate.class);
+        nodeA = newNode(templateA);
+        nodeB = newNode(templateB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        containers.forEach(RedisMessageListenerContainer::stop);
+        listenerExecutors.forEach(ThreadPoolTaskExecutor::shutdown);
+        connectionFactories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    private RedisStompBroadcaster newNode(SimpMessagingTemplate messagingTemplate) {
+        LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisPort));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactories.add(connectionFactory);
+
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        ThreadPoolTaskExecutor listenerExecutor = RedisConfig.listenerExecutor("stomp-relay-listener-");
+        listenerExecutors.add(listenerExecutor);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(listenerExecutor);
+        container.afterPropertiesSet();
+        containers.add(container);
+
+        RedisStompBroadcaster broadcaster =
+                new RedisStompBroadcaster(messagingTemplate, redisTemplate, objectMapper, container);
+        container.start();
+        return broadcaster;
+    }
+
+    @Test
+    void 다른_노드에_연결된_구독자에게_토픽_메세지_전달() throws Exception {
+        // given
+        ChatMessageResponseDto message = new ChatMessageResponseDto(
+                10L, 1L, "홍길동", "안녕하세요", LocalDateTime.of(2025, 1, 1, 12, 0));
+        String expectedJson = objectMapper.writeValueAsString(message);
+
+        // when
+        nodeA.sendToTopic("/topic/chat-rooms/1", message);
+
+        // then: A는 자신의 구독자에게 바로 전송, B는 Redis를 통해 같은 JSON을 받아 전송
+        verify(templateA, times(1)).convertAndSend("/topic/chat-rooms/1", message);
+        verify(templateB, timeout(3000).times(1)).convertAndSend(eq("/topic/chat-rooms/1"),
+                argThat((JsonNode payload) -> payload.toString().equals(expectedJson)));
+
+        // 자신이 중계한 메시지는 다시 전송하지 않음
+        verify(templateA, after(300).times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void 다른_노드에_연결된_사용자에게_개인_메세지_전달() {
+        // given
+        UnreadCountNotificationDto notification = new UnreadCountNotificationDto(1L, 3L);
+
+        // when
+        nodeB.sendToUser(2L, "/queue/chat-rooms/1/unread", notification);
+
+        // then
+        verify(templateB, times(1)).convertAndSendToUser("2", "/queue/chat-rooms/1/unread", notification);
+        verify(templateA, timeout(3000).times(1)).convertAndSendToUser(eq("2"), eq("/queue/chat-rooms/1/unread"),
+                argThat((JsonNode payload) -> payload.get("unread_count").asLong() == 3L));
+    }
+
+    @Test
+    void 같은_채팅방으로_중계된_메세지는_보낸_순서대로_전달() {
+        // given
+        int messageCount = 50;
+        List<Long> sentIds = LongStream.rangeClosed(1, messageCount).boxed().toList();
+
+        // when
+        sentIds.forEach(messageId -> nodeA.sendToTopic("/topic/chat-rooms/1", new ChatMessageResponseDto(
+                messageId, 1L, "홍길동", "메시지 " + messageId, LocalDateTime.of(2025, 1, 1, 12, 0))));
+
+        // then: B는 Redis에서 받은 순서 그대로 자신의 구독자에게 전송
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(templateB, timeout(5000).times(messageCount)).convertAndSend(eq("/topic/chat-rooms/1"), payloads.capture());
+
+        List<Long> receivedIds = payloads.getAllValues().stream()
+                .map(payload -> ((JsonNode) payload).get("message_id").asLong())
+                .toList();
+        assertThat(receivedIds).containsExactlyElementsOf(sentIds);
+    }
+}
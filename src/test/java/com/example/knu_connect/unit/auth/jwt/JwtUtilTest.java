@@ -1,13 +1,18 @@
 package com.example.knu_connect.unit.auth.jwt;
 
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Base64;
+import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -23,7 +28,7 @@ class JwtUtilTest {
         long accessExp = 1800L;  // 30분
         long refreshExp = 3600L; // 1시간
 
-        jwtUtil = new JwtUtil(secret, accessExp, refreshExp);
+        jwtUtil = new JwtUtil(secret, accessExp, refreshExp, 300, 100);
     }
 
     @Test
@@ -31,7 +36,7 @@ class JwtUtilTest {
     void createAccessToken_Success() {
         // given
         // when
-        String token = jwtUtil.createAccessToken("test@knu.ac.kr");
+        String token = jwtUtil.createAccessToken(1L, "test@knu.ac.kr", false);
 
         // then
         assertThat(token).isNotNull();
@@ -55,7 +60,7 @@ class JwtUtilTest {
     void getEmail_ValidToken_ReturnsEmail() {
         // given
         String email = "user@test.knu.ac.kr";
-        String token = jwtUtil.createAccessToken(email);
+        String token = jwtUtil.createAccessToken(1L, email, false);
 
         // when
         String result = jwtUtil.getEmail(token);
@@ -64,12 +69,119 @@ class JwtUtilTest {
         assertThat(result).isEqualTo(email);
     }
 
+    @Test
+    @DisplayName("AccessToken claim으로 인증 주체 생성")
+    void getPrincipal_AccessToken_ReturnsPrincipal() {
+        // given
+        String token = jwtUtil.createAccessToken(7L, "mentor@knu.ac.kr", true);
+
+        // when
+        AuthPrincipal principal = jwtUtil.parse(token).toPrincipal();
+
+        // then
+        assertThat(principal).isEqualTo(new AuthPrincipal(7L, "mentor@knu.ac.kr", true));
+        assertThat(principal.getName()).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("사용자 ID가 없는 이전 형식 토큰은 인증 주체를 만들지 않음")
+    void getPrincipal_LegacyToken_ReturnsNull() {
+        // given
+        String token = jwtUtil.createJwt("test@knu.ac.kr", 1800L, JwtUtil.ACCESS_TOKEN_TYPE);
+
+        // when
+        AuthPrincipal principal = jwtUtil.parse(token).toPrincipal();
+
+        // then
+        assertThat(principal).isNull();
+    }
+
+    @Test
+    @DisplayName("한 번의 검증으로 모든 claim 추출")
+    void parse_AccessToken_ReturnsAllClaims() {
+        // given
+        String token = jwtUtil.createAccessToken(7L, "test@knu.ac.kr", false);
+
+        // when
+        TokenClaims claims = jwtUtil.parse(token);
+
+        // then
+        assertThat(claims.email()).isEqualTo("test@knu.ac.kr");
+        assertThat(claims.isAccessToken()).isTrue();
+        assertThat(claims.userId()).isEqualTo(7L);
+        assertThat(claims.expiration()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("토큰마다 짧은 토큰 ID(jti)를 Redis 키로 사용")
+    void parse_TokenWithId_UsesIdAsKey() {
+        // given
+        String first = jwtUtil.createAccessToken(7L, "test@knu.ac.kr", false);
+        String second = jwtUtil.createRefreshToken("test@knu.ac.kr");
+
+        // when
+        TokenClaims firstClaims = jwtUtil.parse(first);
+        TokenClaims secondClaims = jwtUtil.parse(second);
+
+        // then
+        assertThat(firstClaims.tokenKey()).isEqualTo(firstClaims.tokenId()).hasSize(22);
+        assertThat(secondClaims.tokenKey()).hasSize(22).isNotEqualTo(firstClaims.tokenKey());
+        assertThat(firstClaims.isLegacy()).isFalse();
+    }
+
+    @Test
+    @DisplayName("jti 없는 이전 형식 토큰은 고정 길이 해시를 Redis 키로 사용")
+    void parse_LegacyToken_UsesHashAsKey() {
+        // given
+        String legacyToken = Jwts.builder()
+                .subject("test@knu.ac.kr")
+                .claim(JwtUtil.TOKEN_TYPE_CLAIM, JwtUtil.ACCESS_TOKEN_TYPE)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret)))
+                .compact();
+
+        // when
+        TokenClaims claims = jwtUtil.parse(legacyToken);
+
+        // then
+        assertThat(claims.isLegacy()).isTrue();
+        assertThat(claims.tokenKey()).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("최근 검증한 토큰은 캐시된 claim 반환")
+    void parse_SameToken_ReturnsCachedClaims() {
+        // given
+        String token = jwtUtil.createAccessToken(7L, "test@knu.ac.kr", false);
+        TokenClaims first = jwtUtil.parse(token);
+
+        // when
+        TokenClaims second = jwtUtil.parse(token);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 캐시와 관계없이 검증 실패")
+    void parse_TamperedToken_ThrowsException() {
+        // given
+        String token = jwtUtil.createAccessToken(7L, "test@knu.ac.kr", false);
+        jwtUtil.parse(token);
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1)
+                + (signature.charAt(0) == 'A' ? 'B' : 'A') + signature.substring(1);
+
+        // when & then
+        assertThrows(JwtException.class, () -> jwtUtil.parse(tampered));
+    }
+
     @Test
     @DisplayName("토큰 검증 실패 - 토큰 만료")
     void getEmail_ExpiredToken_ThrowsException() throws InterruptedException {
         // given
-        JwtUtil shortLivedJwt = new JwtUtil(secret, 1, 2); // access 1초
-        String token = shortLivedJwt.createAccessToken("user@test.knu.ac.kr");
+        JwtUtil shortLivedJwt = new JwtUtil(secret, 1, 2, 300, 100); // access 1초
+        String token = shortLivedJwt.createAccessToken(1L, "user@test.knu.ac.kr", false);
         Thread.sleep(10000); // 토큰 만료
 
         // when
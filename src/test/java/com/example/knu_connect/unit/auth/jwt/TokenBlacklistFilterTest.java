@@ -0,0 +1,155 @@
+package com.example.knu_connect.unit.auth.jwt;
+
+import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenBlacklistFilter;
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistFilterTest {
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private RedisMessageListenerContainer listenerContainer;
+    @Mock private Cursor<String> cursor;
+
+    private TokenBlacklistFilter tokenBlacklistFilter;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklistFilter = new TokenBlacklistFilter(redisTemplate, listenerContainer, 1000, 0.01);
+    }
+
+    private void givenBlacklistKeys(String... tokens) {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        var hasNext = when(cursor.hasNext());
+        for (String token : tokens) {
+            hasNext = hasNext.thenReturn(true);
+        }
+        hasNext.thenReturn(false);
+        if (tokens.length > 0) {
+            var next = when(cursor.next());
+            for (String token : tokens) {
+                next = next.thenReturn(TokenBlacklistFilter.KEY_PREFIX + token);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Redis에서 적재하기 전에는 모든 토큰을 Redis로 확인")
+    void mightBeRevoked_NotLoaded_ReturnsTrue() {
+        assertThat(tokenBlacklistFilter.mightBeRevoked("access-token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재 후 블랙리스트에 없는 토큰은 Redis 조회 생략")
+    void mightBeRevoked_Loaded_FiltersUnknownTokens() {
+        // given
+        givenBlacklistKeys("revoked-token");
+
+        // when
+        tokenBlacklistFilter.rebuild();
+
+        // then
+        assertThat(tokenBlacklistFilter.mightBeRevoked("revoked-token")).isTrue();
+        assertThat(tokenBlacklistFilter.mightBeRevoked("access-token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 바로 추가하고 다른 인스턴스에 전파")
+    void add_PublishesToOtherNodes() {
+        // given
+        givenBlacklistKeys();
+        tokenBlacklistFilter.rebuild();
+
+        // when
+        tokenBlacklistFilter.add("access-token");
+
+        // then
+        assertThat(tokenBlacklistFilter.mightBeRevoked("access-token")).isTrue();
+        verify(redisTemplate).convertAndSend(TokenBlacklistFilter.CHANNEL, "access-token");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 로그아웃한 토큰 수신")
+    void onMessage_AddsToken() {
+        // given
+        givenBlacklistKeys();
+        tokenBlacklistFilter.rebuild();
+
+        // when
+        tokenBlacklistFilter.onMessage(new DefaultMessage(
+                TokenBlacklistFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "access-token".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(tokenBlacklistFilter.mightBeRevoked("access-token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터에 없는 토큰 ID는 Redis를 조회하지 않음")
+    void isRevoked_UnknownTokenId_SkipsRedis() {
+        // given
+        givenBlacklistKeys();
+        tokenBlacklistFilter.rebuild();
+        TokenClaims claims = new TokenClaims("access-id", "access-id", "test@knu.ac.kr",
+                JwtUtil.ACCESS_TOKEN_TYPE, 1L, false, System.currentTimeMillis() + 60_000);
+
+        // when
+        boolean revoked = tokenBlacklistFilter.isRevoked("access-token", claims);
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("jti 도입 전에 로그아웃한 이전 형식 토큰은 전체 토큰 키로 확인")
+    void isRevoked_LegacyToken_ChecksFullTokenKey() {
+        // given
+        givenBlacklistKeys("legacy-access-token");
+        tokenBlacklistFilter.rebuild();
+        TokenClaims claims = new TokenClaims(null, "token-hash", "test@knu.ac.kr",
+                JwtUtil.ACCESS_TOKEN_TYPE, null, false, System.currentTimeMillis() + 60_000);
+        when(redisTemplate.hasKey("token:blacklist:legacy-access-token")).thenReturn(true);
+
+        // when
+        boolean revoked = tokenBlacklistFilter.isRevoked("legacy-access-token", claims);
+
+        // then
+        assertThat(revoked).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성 실패 시 기존 필터 유지")
+    void rebuild_RedisFailure_KeepsCurrentFilter() {
+        // given
+        givenBlacklistKeys("revoked-token");
+        tokenBlacklistFilter.rebuild();
+        when(redisTemplate.scan(any(ScanOptions.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        tokenBlacklistFilter.rebuild();
+
+        // then
+        assertThat(tokenBlacklistFilter.mightBeRevoked("revoked-token")).isTrue();
+        assertThat(tokenBlacklistFilter.mightBeRevoked("access-token")).isFalse();
+    }
+}
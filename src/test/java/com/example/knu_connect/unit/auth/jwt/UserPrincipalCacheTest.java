@@ -0,0 +1,164 @@
+package com.example.knu_connect.unit.auth.jwt;
+
+import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
+import com.example.knu_connect.global.auth.jwt.CustomUserDetails;
+import com.example.knu_connect.global.auth.jwt.CustomUserDetailsService;
+import com.example.knu_connect.global.auth.jwt.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+    @Mock private CustomUserDetailsService customUserDetailsService;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private RedisMessageListenerContainer listenerContainer;
+
+    private UserPrincipalCache userPrincipalCache;
+
+    private final String email = "test@knu.ac.kr";
+
+    @BeforeEach
+    void setUp() {
+        // 가상 스레드 모드의 애플리케이션 task executor와 같은 구성
+        SimpleAsyncTaskExecutor loaderExecutor = new SimpleAsyncTaskExecutor("principal-loader-");
+        loaderExecutor.setVirtualThreads(true);
+
+        userPrincipalCache = new UserPrincipalCache(customUserDetailsService, redisTemplate, listenerContainer,
+                new SimpleMeterRegistry(), loaderExecutor, 300, 100);
+    }
+
+    @Test
+    @DisplayName("캐시된 인증 주체는 DB를 다시 조회하지 않음")
+    void get_cached_loadsOnce() {
+        // given
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getEmail()).thenReturn(email);
+        when(user.isMentor()).thenReturn(true);
+        when(customUserDetailsService.loadUserByUsername(email)).thenReturn(new CustomUserDetails(user));
+
+        // when
+        AuthPrincipal first = userPrincipalCache.get(email);
+        AuthPrincipal second = userPrincipalCache.get(email);
+
+        // then: 엔티티가 아닌 불변 인증 주체만 캐시
+        assertThat(first).isEqualTo(new AuthPrincipal(1L, email, true));
+        assertThat(second).isSameAs(first);
+        verify(customUserDetailsService, times(1)).loadUserByUsername(email);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않고 예외 전파")
+    void get_userNotFound_notCached() {
+        // given
+        when(customUserDetailsService.loadUserByUsername(email))
+                .thenThrow(new UsernameNotFoundException("User not found with email: " + email));
+
+        // when & then
+        assertThrows(UsernameNotFoundException.class, () -> userPrincipalCache.get(email));
+        assertThrows(UsernameNotFoundException.class, () -> userPrincipalCache.get(email));
+        verify(customUserDetailsService, times(2)).loadUserByUsername(email);
+    }
+
+    @Test
+    @DisplayName("무효화 시 다른 인스턴스에 이벤트 발행 후 다시 조회")
+    void invalidate_publishesAndReloads() {
+        // given
+        when(customUserDetailsService.loadUserByUsername(email))
+                .thenReturn(new CustomUserDetails(mock(User.class)));
+        userPrincipalCache.get(email);
+
+        // when
+        userPrincipalCache.invalidate(email);
+        userPrincipalCache.get(email);
+
+        // then
+        verify(redisTemplate).convertAndSend(UserPrincipalCache.INVALIDATION_CHANNEL, email);
+        verify(customUserDetailsService, times(2)).loadUserByUsername(email);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 이벤트 수신 시 캐시 항목 제거")
+    void onMessage_invalidatesLocalEntry() {
+        // given
+        when(customUserDetailsService.loadUserByUsername(email))
+                .thenReturn(new CustomUserDetails(mock(User.class)));
+        userPrincipalCache.get(email);
+
+        // when
+        userPrincipalCache.onMessage(new DefaultMessage(
+                UserPrincipalCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                email.getBytes(StandardCharsets.UTF_8)), null);
+        userPrincipalCache.get(email);
+
+        // then
+        verify(customUserDetailsService, times(2)).loadUserByUsername(email);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 DB 조회 중에도 캐리어 스레드를 점유하지 않음")
+    void get_onVirtualThreads_doesNotPin() throws Exception {
+        // given: DB 조회가 오래 걸리는 상황 (mock 생성은 가상 스레드 밖에서)
+        CustomUserDetails userDetails = new CustomUserDetails(mock(User.class));
+        when(customUserDetailsService.loadUserByUsername(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return userDetails;
+        });
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+        Object monitor = new Object();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(10)).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinnedEvents::add);
+            recording.startAsync();
+
+            // when
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 20; i++) {
+                    String key = "user" + (i % 5) + "@knu.ac.kr";
+                    executor.submit(() -> userPrincipalCache.get(key));
+                }
+                // 측정 확인용: synchronized 안에서 블로킹하면 pinning 이벤트 발생
+                executor.submit(() -> {
+                    synchronized (monitor) {
+                        Thread.sleep(50);
+                    }
+                    return null;
+                });
+            }
+            recording.stop();
+        }
+
+        // then
+        assertThat(pinnedEvents).isNotEmpty();
+        assertThat(pinnedEvents).noneMatch(event -> event.getStackTrace().getFrames().stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().equals(UserPrincipalCache.class.getName())));
+        verify(customUserDetailsService, times(5)).loadUserByUsername(anyString());
+    }
+}
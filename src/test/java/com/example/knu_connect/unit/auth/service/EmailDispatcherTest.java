@@ -0,0 +1,216 @@
+package com.example.knu_connect.unit.auth.service;
+
+import com.example.knu_connect.domain.auth.service.EmailDeliveryStatus;
+import com.example.knu_connect.domain.auth.service.EmailDispatcher;
+import com.example.knu_connect.global.exception.common.BusinessException;
+import com.example.knu_connect.global.exception.common.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 실제 전송 시도된 메일 목록 (재시도 포함)
+    private final List<MimeMessage> attempts = new CopyOnWriteArrayList<>();
+
+    private EmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    private void newDispatcher(int queueCapacity) {
+        dispatcher = new EmailDispatcher(mailSender, redisTemplate, meterRegistry, queueCapacity, 1, 20, 3, 10);
+        dispatcher.start();
+    }
+
+    private double dispatched(String result) {
+        return meterRegistry.get("email.dispatch").tag("result", result).counter().count();
+    }
+
+    @Test
+    void 전송에_실패한_메일만_재시도() {
+        // given: bad 메일은 첫 시도에만 실패
+        MimeMessage good = mock(MimeMessage.class);
+        MimeMessage bad = mock(MimeMessage.class);
+        doAnswer(invocation -> {
+            List<MimeMessage> batch = Arrays.stream(invocation.getArguments()).map(MimeMessage.class::cast).toList();
+            boolean firstTryOfBad = batch.contains(bad) && !attempts.contains(bad);
+            attempts.addAll(batch);
+            if (firstTryOfBad) {
+                throw new MailSendException(Map.of(bad, new RuntimeException("rejected")));
+            }
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+        newDispatcher(10);
+
+        // when
+        String goodId = dispatcher.enqueue("good@knu.ac.kr", good);
+        String badId = dispatcher.enqueue("bad@knu.ac.kr", bad);
+
+        // then: 발송 상태는 이메일이 아닌 요청 ID로 저장
+        verify(valueOperations, timeout(3000)).set("email:status:" + badId, "SENT", 10L, TimeUnit.MINUTES);
+        verify(valueOperations, timeout(3000)).set("email:status:" + goodId, "SENT", 10L, TimeUnit.MINUTES);
+        verify(valueOperations).set("email:status:" + badId, "RETRYING", 10L, TimeUnit.MINUTES);
+        verify(valueOperations, never()).set(contains("@knu.ac.kr"), anyString(), anyLong(), any(TimeUnit.class));
+        assertThat(goodId).isNotEqualTo(badId);
+        assertThat(attempts).containsOnlyOnce(good);
+        assertThat(attempts.stream().filter(bad::equals).count()).isEqualTo(2);
+        assertThat(dispatched("retried")).isEqualTo(1);
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘으면_발송_실패() {
+        // given
+        MimeMessage message = mock(MimeMessage.class);
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(MimeMessage[].class));
+        newDispatcher(10);
+
+        // when
+        String requestId = dispatcher.enqueue("test@knu.ac.kr", message);
+
+        // then
+        verify(valueOperations, timeout(3000)).set("email:status:" + requestId, "FAILED", 10L, TimeUnit.MINUTES);
+        verify(mailSender, times(3)).send(any(MimeMessage[].class));
+        assertThat(dispatched("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void 발송_큐가_가득_차면_요청을_거절() throws InterruptedException {
+        // given: 워커가 첫 메일 전송 중에 멈춰 있는 상태
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(3, TimeUnit.SECONDS);
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+        newDispatcher(1);
+
+        dispatcher.enqueue("first@knu.ac.kr", mock(MimeMessage.class));
+        assertThat(sending.await(3, TimeUnit.SECONDS)).isTrue();
+        dispatcher.enqueue("second@knu.ac.kr", mock(MimeMessage.class));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> dispatcher.enqueue("third@knu.ac.kr", mock(MimeMessage.class)));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EMAIL_QUEUE_FULL);
+        verify(redisTemplate).delete(startsWith("email:status:"));
+        release.countDown();
+    }
+
+    @Test
+    void 시작_전에는_요청을_거절() {
+        // given: 컨테이너가 아직 start()를 호출하지 않은 상태
+        dispatcher = new EmailDispatcher(mailSender, redisTemplate, meterRegistry, 10, 1, 20, 3, 10);
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> dispatcher.enqueue("test@knu.ac.kr", mock(MimeMessage.class)));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EMAIL_QUEUE_FULL);
+        assertThat(dispatcher.isRunning()).isFalse();
+        verifyNoInteractions(mailSender);
+    }
+
+    @Test
+    void 종료_시_큐에_남은_메일을_모두_전송() {
+        // given
+        doAnswer(invocation -> {
+            Arrays.stream(invocation.getArguments()).map(MimeMessage.class::cast).forEach(attempts::add);
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+        newDispatcher(10);
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.enqueue("user" + i + "@knu.ac.kr", mock(MimeMessage.class));
+        }
+
+        // when
+        dispatcher.stop();
+
+        // then: stop()이 반환되기 전에 모든 메일 전송 완료
+        assertThat(dispatcher.isRunning()).isFalse();
+        assertThat(attempts).hasSize(5);
+        assertThat(dispatched("sent")).isEqualTo(5);
+    }
+
+    @Test
+    void 종료_시_재시도_대기_중인_메일은_발송_실패로_처리() {
+        // given: 첫 시도에 실패하고 재시도까지 오래 기다리는 상태
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(MimeMessage[].class));
+        dispatcher = new EmailDispatcher(mailSender, redisTemplate, meterRegistry, 10, 1, 20, 3, 60_000);
+        dispatcher.start();
+        String requestId = dispatcher.enqueue("test@knu.ac.kr", mock(MimeMessage.class));
+        verify(valueOperations, timeout(3000)).set("email:status:" + requestId, "RETRYING", 10L, TimeUnit.MINUTES);
+
+        // when
+        dispatcher.stop();
+
+        // then: 재시도를 기다리지 않고 FAILED로 남김
+        verify(valueOperations).set("email:status:" + requestId, "FAILED", 10L, TimeUnit.MINUTES);
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        assertThat(dispatched("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void 발송_상태_조회() {
+        // given
+        newDispatcher(10);
+        given(valueOperations.get("email:status:request-1")).willReturn("SENT");
+
+        // when
+        EmailDeliveryStatus status = dispatcher.getStatus("request-1");
+
+        // then
+        assertThat(status).isEqualTo(EmailDeliveryStatus.SENT);
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> dispatcher.getStatus("unknown-request"));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EMAIL_STATUS_NOT_FOUND);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.knu_connect.unit.auth.service;
+
+import com.example.knu_connect.domain.auth.service.EmailRateLimiter;
+import com.example.knu_connect.global.ratelimit.RateLimitExceededException;
+import com.example.knu_connect.global.ratelimit.RateLimitPolicy;
+import com.example.knu_connect.global.ratelimit.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmailRateLimiterTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private EmailRateLimiter emailRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        emailRateLimiter = new EmailRateLimiter(rateLimiter, 3, 60, 20, 10, 5, 60, 30, 5);
+    }
+
+    private static RateLimitPolicy policy(String name) {
+        return argThat(policy -> policy != null && policy.name().equals(name));
+    }
+
+    @Test
+    void 이메일별_한도에_걸리면_IP_토큰을_돌려줌() {
+        // given
+        willThrow(new RateLimitExceededException(30))
+                .given(rateLimiter).acquire(policy("email-send:email"), eq("test@knu.ac.kr"));
+
+        // when
+        assertThrows(RateLimitExceededException.class,
+                () -> emailRateLimiter.checkSend(" Test@knu.ac.kr ", "10.0.0.1"));
+
+        // then
+        verify(rateLimiter).acquire(policy("email-send:ip"), eq("10.0.0.1"));
+        verify(rateLimiter).release(policy("email-send:ip"), eq("10.0.0.1"));
+    }
+
+    @Test
+    void IP_한도에_걸리면_이메일_버킷을_확인하지_않음() {
+        // given
+        willThrow(new RateLimitExceededException(3))
+                .given(rateLimiter).acquire(policy("email-verify:ip"), eq("10.0.0.1"));
+
+        // when
+        assertThrows(RateLimitExceededException.class,
+                () -> emailRateLimiter.checkVerify("test@knu.ac.kr", "10.0.0.1"));
+
+        // then
+        verify(rateLimiter, never()).acquire(policy("email-verify:email"), any());
+        verify(rateLimiter, never()).release(any(), any());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.knu_connect.unit.auth.service;
 
 import com.example.knu_connect.domain.auth.dto.request.EmailSendRequestDto;
+import com.example.knu_connect.domain.auth.service.EmailDispatcher;
 import com.example.knu_connect.domain.auth.service.EmailService;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.global.exception.common.BusinessException;
@@ -16,7 +17,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
@@ -32,6 +32,7 @@ class EmailServiceTest {
     @Mock private RedisTemplate<String, String> redisTemplate;
     @Mock private SpringTemplateEngine templateEngine;
     @Mock private UserRepository userRepository;
+    @Mock private EmailDispatcher emailDispatcher;
     @InjectMocks private EmailService emailService;
 
     @Mock private ValueOperations<String, String> valueOperations;
@@ -41,43 +42,71 @@ class EmailServiceTest {
             new EmailSendRequestDto("test@knu.ac.kr");
 
     @Test
-    @DisplayName("이메일 전송 성공")
+    @DisplayName("이메일 발송 요청 성공 - 인증번호 저장 후 발송 큐에 등록")
     void sendVerificationCode_AllValid_Success() {
         // given
         when(userRepository.existsByEmail(request.email())).thenReturn(false);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
         when(templateEngine.process(anyString(), any())).thenReturn("<html>content</html>");
+        when(emailDispatcher.enqueue("test@knu.ac.kr", mimeMessage)).thenReturn("request-1");
 
         // when
-        emailService.sendVerificationCode(request);
+        String requestId = emailService.sendVerificationCode(request);
 
         // then
+        assertThat(requestId).isEqualTo("request-1");
         verify(redisTemplate.opsForValue()).set(
                 startsWith("email:verify:"),
                 anyString(),
                 eq(5L),
                 eq(TimeUnit.MINUTES)
         );
-        verify(mailSender).send(mimeMessage);
+        verify(emailDispatcher).enqueue("test@knu.ac.kr", mimeMessage);
+        verify(mailSender, never()).send(any(MimeMessage.class));
     }
 
     @Test
-    @DisplayName("이메일 전송 실패 - 전송 오류")
-    void SendVerificationCode_MailSendException_ThrowsException() {
+    @DisplayName("이메일 발송 요청 실패 - 발송 큐 가득 참, 새 인증번호 삭제")
+    void SendVerificationCode_QueueFull_ThrowsException() {
         // given
         when(userRepository.existsByEmail(request.email())).thenReturn(false);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
         when(templateEngine.process(anyString(), any())).thenReturn("<html>content</html>");
-        doThrow(new MailSendException("fail")).when(mailSender).send(any(MimeMessage.class));
+        doThrow(new BusinessException(ErrorCode.EMAIL_QUEUE_FULL))
+                .when(emailDispatcher).enqueue(eq("test@knu.ac.kr"), any(MimeMessage.class));
 
         // when
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> emailService.sendVerificationCode(request));
 
         // then
-        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EMAIL_SEND_FAILED);
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EMAIL_QUEUE_FULL);
+        verify(redisTemplate).delete("email:verify:test@knu.ac.kr");
+    }
+
+    @Test
+    @DisplayName("이메일 발송 요청 실패 - 발송 큐 가득 참, 이전 인증번호 복구")
+    void SendVerificationCode_QueueFull_RestoresPreviousCode() {
+        // given: 이전 요청으로 발송된 인증번호가 2분 남은 상태
+        when(userRepository.existsByEmail(request.email())).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("email:verify:test@knu.ac.kr")).thenReturn("111111");
+        when(redisTemplate.getExpire("email:verify:test@knu.ac.kr", TimeUnit.SECONDS)).thenReturn(120L);
+        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+        when(templateEngine.process(anyString(), any())).thenReturn("<html>content</html>");
+        doThrow(new BusinessException(ErrorCode.EMAIL_QUEUE_FULL))
+                .when(emailDispatcher).enqueue(eq("test@knu.ac.kr"), any(MimeMessage.class));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> emailService.sendVerificationCode(request));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EMAIL_QUEUE_FULL);
+        verify(valueOperations).set("email:verify:test@knu.ac.kr", "111111", 120L, TimeUnit.SECONDS);
+        verify(redisTemplate, never()).delete(anyString());
     }
 
     @Test
@@ -85,7 +114,6 @@ class EmailServiceTest {
     void SendVerificationCode_MessagingException_ThrowsException() throws Exception{
         // given
         when(userRepository.existsByEmail(request.email())).thenReturn(false);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(mailSender.createMimeMessage()).thenAnswer(invocation -> {
             throw new MessagingException("build failed");
         });
@@ -94,8 +122,9 @@ class EmailServiceTest {
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> emailService.sendVerificationCode(request));
 
-        // then
+        // then: 메일 구성에 실패하면 인증번호를 바꾸지 않음
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EMAIL_BUILD_FAILED);
+        verifyNoInteractions(redisTemplate, emailDispatcher);
     }
 
     @Test
@@ -118,6 +147,8 @@ class EmailServiceTest {
         // given
         when(userRepository.existsByEmail(request.email())).thenReturn(false);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+        when(templateEngine.process(anyString(), any())).thenReturn("<html>content</html>");
         doThrow(new RedisConnectionFailureException("fail"))
                 .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
 
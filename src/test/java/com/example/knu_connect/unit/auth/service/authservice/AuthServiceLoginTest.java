@@ -4,7 +4,9 @@ import com.example.knu_connect.domain.auth.dto.request.LoginRequestDto;
 import com.example.knu_connect.domain.auth.dto.response.TokenWithRefreshResponseDto;
 import com.example.knu_connect.global.auth.jwt.CustomUserDetails;
 import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
 import com.example.knu_connect.domain.auth.service.AuthService;
+import com.example.knu_connect.domain.auth.service.RefreshTokenStore;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
@@ -14,14 +16,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 
-import java.util.concurrent.TimeUnit;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,17 +29,18 @@ import static org.mockito.Mockito.*;
 class AuthServiceLoginTest {
     @Mock private AuthenticationManager authenticationManager;
     @Mock private JwtUtil jwtUtil;
-    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private RefreshTokenStore refreshTokenStore;
     @InjectMocks private AuthService authService;
-    @Mock private ValueOperations<String, String> valueOperations;
 
     @Test
-    @DisplayName("로그인 성공 - 토큰 발급 및 Redis 저장")
+    @DisplayName("로그인 성공 - 토큰 발급 및 세션 저장")
     void login_Success() {
         // given
         LoginRequestDto request = new LoginRequestDto("test@knu.ac.kr", "password");
         User mockUser = mock(User.class);
+        when(mockUser.getId()).thenReturn(1L);
         when(mockUser.getEmail()).thenReturn("test@knu.ac.kr");
+        when(mockUser.isMentor()).thenReturn(true);
 
         CustomUserDetails userDetails = new CustomUserDetails(mockUser);
         Authentication authentication = mock(Authentication.class);
@@ -49,10 +48,11 @@ class AuthServiceLoginTest {
         when(authentication.getPrincipal()).thenReturn(userDetails);
         when(authenticationManager.authenticate(any())).thenReturn(authentication);
 
-        when(jwtUtil.createAccessToken("test@knu.ac.kr")).thenReturn("access-token");
+        when(jwtUtil.createAccessToken(1L, "test@knu.ac.kr", true)).thenReturn("access-token");
         when(jwtUtil.createRefreshToken("test@knu.ac.kr")).thenReturn("refresh-token");
-
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        TokenClaims refreshClaims = new TokenClaims("refresh-id", "refresh-id", "test@knu.ac.kr",
+                JwtUtil.REFRESH_TOKEN_TYPE, null, false, System.currentTimeMillis() + 60_000);
+        when(jwtUtil.parse("refresh-token")).thenReturn(refreshClaims);
 
         // when
         TokenWithRefreshResponseDto response = authService.login(request);
@@ -61,12 +61,7 @@ class AuthServiceLoginTest {
         assertThat(response.accessToken()).isEqualTo("access-token");
         assertThat(response.refreshToken()).isEqualTo("refresh-token");
 
-        verify(redisTemplate.opsForValue()).set(
-                eq("token:refresh:refresh-token"),
-                eq("test@knu.ac.kr"),
-                anyLong(),
-                eq(TimeUnit.MINUTES)
-        );
+        verify(refreshTokenStore).save(1L, refreshClaims);
     }
 
     @Test
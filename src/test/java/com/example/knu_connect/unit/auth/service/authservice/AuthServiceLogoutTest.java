@@ -1,7 +1,12 @@
 package com.example.knu_connect.unit.auth.service.authservice;
 
 import com.example.knu_connect.domain.auth.service.AuthService;
+import com.example.knu_connect.domain.auth.service.RefreshTokenStore;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenBlacklistFilter;
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
+import com.example.knu_connect.global.auth.jwt.UserPrincipalCache;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,16 +34,23 @@ class AuthServiceLogoutTest {
     @Mock RedisTemplate<String, String> redisTemplate;
     @InjectMocks private AuthService authService;
     @Mock ValueOperations<String, String> valueOperations;
+    @Mock TokenBlacklistFilter tokenBlacklistFilter;
+    @Mock RefreshTokenStore refreshTokenStore;
+    @Mock UserPrincipalCache userPrincipalCache;
 
     @Test
-    @DisplayName("로그아웃 성공")
+    @DisplayName("로그아웃 성공 - 토큰 ID로 블랙리스트 등록 및 Refresh Token 삭제")
     void logout_Success() {
         // given
         String accessToken = "access-token";
         String refreshToken = "refresh-token";
         long expirationTime = System.currentTimeMillis() + 10000; // 10초 후 만료
 
-        when(jwtUtil.getExpiration(accessToken)).thenReturn(expirationTime);
+        when(jwtUtil.parse(accessToken)).thenReturn(new TokenClaims(
+                "access-id", "access-id", "test@knu.ac.kr", JwtUtil.ACCESS_TOKEN_TYPE, 1L, false, expirationTime));
+        TokenClaims refreshClaims = new TokenClaims(
+                "refresh-id", "refresh-id", "test@knu.ac.kr", JwtUtil.REFRESH_TOKEN_TYPE, null, false, expirationTime);
+        when(jwtUtil.parse(refreshToken)).thenReturn(refreshClaims);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
         // when
@@ -45,12 +58,63 @@ class AuthServiceLogoutTest {
 
         // then
         verify(valueOperations).set(
-                eq("token:blacklist:" + accessToken),
+                eq("token:blacklist:access-id"),
                 eq("true"),
                 anyLong(),
                 eq(TimeUnit.MILLISECONDS)
         );
-        verify(redisTemplate).delete("token:refresh:" + refreshToken);
+        verify(refreshTokenStore).remove(1L, refreshToken, refreshClaims);
+        verify(tokenBlacklistFilter).add("access-id");
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - 사용자 ID 없는 이전 형식 Access Token은 이메일로 사용자 조회")
+    void logout_LegacyAccessToken_ResolvesUserByEmail() {
+        // given
+        String accessToken = "legacy-access-token";
+        String refreshToken = "refresh-token";
+        long expirationTime = System.currentTimeMillis() + 10000;
+
+        when(jwtUtil.parse(accessToken)).thenReturn(new TokenClaims(
+                null, "access-hash", "test@knu.ac.kr", JwtUtil.ACCESS_TOKEN_TYPE, null, false, expirationTime));
+        TokenClaims refreshClaims = new TokenClaims(
+                null, "refresh-hash", "test@knu.ac.kr", JwtUtil.REFRESH_TOKEN_TYPE, null, false, expirationTime);
+        when(jwtUtil.parse(refreshToken)).thenReturn(refreshClaims);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(userPrincipalCache.get("test@knu.ac.kr")).thenReturn(new AuthPrincipal(7L, "test@knu.ac.kr", false));
+
+        // when
+        authService.logout(accessToken, refreshToken);
+
+        // then
+        verify(tokenBlacklistFilter).add("access-hash");
+        verify(refreshTokenStore).remove(7L, refreshToken, refreshClaims);
+    }
+
+    @Test
+    @DisplayName("모든 기기에서 로그아웃 - 현재 Access Token 블랙리스트 등록 및 모든 세션 삭제")
+    void logoutAll_Success() {
+        // given
+        String accessToken = "access-token";
+        long expirationTime = System.currentTimeMillis() + 10000;
+
+        when(jwtUtil.parse(accessToken)).thenReturn(new TokenClaims(
+                "access-id", "access-id", "test@knu.ac.kr", JwtUtil.ACCESS_TOKEN_TYPE, 1L, false, expirationTime));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(refreshTokenStore.removeAll(1L)).thenReturn(3L);
+
+        // when
+        authService.logoutAll(accessToken);
+
+        // then
+        verify(valueOperations).set(
+                eq("token:blacklist:access-id"),
+                eq("true"),
+                anyLong(),
+                eq(TimeUnit.MILLISECONDS)
+        );
+        verify(tokenBlacklistFilter).add("access-id");
+        verify(refreshTokenStore).removeAll(1L);
     }
 
     @Test
@@ -2,7 +2,11 @@ package com.example.knu_connect.unit.auth.service.authservice;
 
 import com.example.knu_connect.domain.auth.dto.response.LoginResponseDto;
 import com.example.knu_connect.domain.auth.service.AuthService;
+import com.example.knu_connect.domain.auth.service.RefreshTokenStore;
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import com.example.knu_connect.global.auth.jwt.JwtUtil;
+import com.example.knu_connect.global.auth.jwt.TokenClaims;
+import com.example.knu_connect.global.auth.jwt.UserPrincipalCache;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -12,18 +16,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceReissueTokenTest {
     @Mock private JwtUtil jwtUtil;
-    @Mock RedisTemplate<String, String> redisTemplate;
+    @Mock private RefreshTokenStore refreshTokenStore;
+    @Mock private UserPrincipalCache userPrincipalCache;
     @InjectMocks private AuthService authService;
 
+    private TokenClaims refreshClaims(String email) {
+        return new TokenClaims("refresh-id", "refresh-id", email, JwtUtil.REFRESH_TOKEN_TYPE, null, false,
+                System.currentTimeMillis() + 60_000);
+    }
+
     @Test
     @DisplayName("토큰 재발급 성공")
     void reissueToken_Success() {
@@ -32,17 +47,40 @@ class AuthServiceReissueTokenTest {
         String email = "test@knu.ac.kr";
         String newAccessToken = "new-access-token";
 
-        when(jwtUtil.getEmail(refreshToken)).thenReturn(email);
-        when(jwtUtil.getTokenType(refreshToken)).thenReturn(JwtUtil.REFRESH_TOKEN_TYPE);
-        when(redisTemplate.hasKey("token:refresh:" + refreshToken)).thenReturn(true);
-        when(jwtUtil.createAccessToken(email)).thenReturn(newAccessToken);
+        TokenClaims claims = refreshClaims(email);
+        when(jwtUtil.parse(refreshToken)).thenReturn(claims);
+        when(refreshTokenStore.exists(refreshToken, claims)).thenReturn(true);
+        when(userPrincipalCache.get(email)).thenReturn(new AuthPrincipal(1L, email, false));
+        when(jwtUtil.createAccessToken(1L, email, false)).thenReturn(newAccessToken);
 
         // when
         LoginResponseDto response = authService.reissueToken(refreshToken);
 
         // then
         assertThat(response.token()).isEqualTo(newAccessToken);
+        verify(refreshTokenStore).track(1L, refreshToken, claims);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 성공 - jti 없는 이전 형식 Refresh Token도 세션 인덱스에 등록")
+    void reissueToken_LegacyRefreshToken_Success() {
+        // given
+        String refreshToken = "legacy-refresh-token";
+        String email = "test@knu.ac.kr";
+
+        TokenClaims claims = new TokenClaims(null, "refresh-hash", email,
+                JwtUtil.REFRESH_TOKEN_TYPE, null, false, System.currentTimeMillis() + 60_000);
+        when(jwtUtil.parse(refreshToken)).thenReturn(claims);
+        when(refreshTokenStore.exists(refreshToken, claims)).thenReturn(true);
+        when(userPrincipalCache.get(email)).thenReturn(new AuthPrincipal(1L, email, false));
+        when(jwtUtil.createAccessToken(1L, email, false)).thenReturn("new-access-token");
+
+        // when
+        LoginResponseDto response = authService.reissueToken(refreshToken);
 
+        // then
+        assertThat(response.token()).isEqualTo("new-access-token");
+        verify(refreshTokenStore).track(1L, refreshToken, claims);
     }
 
     @Test
@@ -66,7 +104,7 @@ class AuthServiceReissueTokenTest {
     void reissueToken_ExpiredToken_ThrowsException() {
         // given
         String refreshToken = "expired-token";
-        when(jwtUtil.getEmail(refreshToken)).thenThrow(new ExpiredJwtException(null, null, "Token expired"));
+        when(jwtUtil.parse(refreshToken)).thenThrow(new ExpiredJwtException(null, null, "Token expired"));
 
         // when
         BusinessException exception = assertThrows(BusinessException.class, () ->
@@ -82,9 +120,9 @@ class AuthServiceReissueTokenTest {
     void reissueToken_TokenNotInRedis_ThrowsException() {
         // given
         String refreshToken = "refresh-token";
-        when(jwtUtil.getEmail(refreshToken)).thenReturn("test@knu.ac.kr");
-        when(jwtUtil.getTokenType(refreshToken)).thenReturn(JwtUtil.REFRESH_TOKEN_TYPE);
-        when(redisTemplate.hasKey("token:refresh:" + refreshToken)).thenReturn(false);
+        TokenClaims claims = refreshClaims("test@knu.ac.kr");
+        when(jwtUtil.parse(refreshToken)).thenReturn(claims);
+        when(refreshTokenStore.exists(refreshToken, claims)).thenReturn(false);
 
         // when
         BusinessException exception = assertThrows(BusinessException.class, () ->
@@ -94,5 +132,6 @@ class AuthServiceReissueTokenTest {
         // then
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
         assertThat(exception.getMessage()).isEqualTo("존재하지 않거나 맞지 않는 토큰입니다.");
+        verify(refreshTokenStore, never()).track(anyLong(), anyString(), any());
     }
 }
@@ -0,0 +1,220 @@
+package com.example.knu_connect.unit.chat.repository;
+
+import com.example.knu_connect.domain.chat.dto.projection.ChatRoomInboxRow;
+import com.example.knu_connect.domain.chat.entitiy.ChatMessage;
+import com.example.knu_connect.domain.chat.entitiy.ChatParticipants;
+import com.example.knu_connect.domain.chat.entitiy.ChatRoom;
+import com.example.knu_connect.domain.chat.repository.ChatParticipantsRepository;
+import com.example.knu_connect.domain.chat.repository.ChatRoomRepository;
+import com.example.knu_connect.domain.networking.entitiy.Networking;
+import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.domain.user.entity.enums.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ChatRoomRepositoryTest {
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatParticipantsRepository chatParticipantsRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("채팅방 목록을 최근 메시지, 네트워킹 제목, 안읽은 메시지 수와 함께 한 번에 조회한다")
+    void findInboxByUserId() {
+        // given
+        User me = saveUser("me@knu.ac.kr", "나");
+        User other = saveUser("other@knu.ac.kr", "김철수");
+
+        // 1:1 채팅방: 상대방 메시지 2개 중 1개를 읽음
+        ChatRoom directRoom = saveRoom();
+        ChatMessage first = saveMessage(other, directRoom, "안녕하세요");
+        saveParticipant(me, directRoom, first.getId());
+        saveParticipant(other, directRoom, 0L);
+        saveMessage(other, directRoom, "반갑습니다");
+
+        // 네트워킹 채팅방: 메시지 없음
+        ChatRoom networkingRoom = saveRoom();
+        saveParticipant(me, networkingRoom, 0L);
+        em.persist(Networking.builder()
+                .user(other)
+                .chatRoom(networkingRoom)
+                .title("스터디 모집")
+                .contents("내용")
+                .curNumber(1)
+                .maxNumber(5)
+                .visible(true)
+                .build());
+
+        // 참여하지 않은 채팅방
+        ChatRoom otherRoom = saveRoom();
+        saveParticipant(other, otherRoom, 0L);
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<ChatRoomInboxRow> rows = chatRoomRepository.findInboxByUserId(me.getId());
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows).extracting(ChatRoomInboxRow::chatRoomId)
+                .containsExactlyInAnyOrder(directRoom.getId(), networkingRoom.getId());
+
+        ChatRoomInboxRow direct = rows.stream()
+                .filter(row -> row.chatRoomId().equals(directRoom.getId()))
+                .findFirst().orElseThrow();
+        assertThat(direct.networkingTitle()).isNull();
+        assertThat(direct.recentMessage()).isEqualTo("반갑습니다");
+        assertThat(direct.unreadCount()).isEqualTo(1L);
+
+        ChatRoomInboxRow networking = rows.stream()
+                .filter(row -> row.chatRoomId().equals(networkingRoom.getId()))
+                .findFirst().orElseThrow();
+        assertThat(networking.networkingTitle()).isEqualTo("스터디 모집");
+        assertThat(networking.recentMessage()).isNull();
+        assertThat(networking.recentDate()).isNotNull();
+        assertThat(networking.unreadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("최근 메시지 요약은 더 최신 메시지로만 갱신된다")
+    void updateLastMessage_IgnoresOlderMessage() {
+        // given
+        User me = saveUser("me@knu.ac.kr", "나");
+        ChatRoom chatRoom = saveRoom();
+        ChatMessage older = saveMessage(me, chatRoom, "먼저 저장된 메시지");
+        ChatMessage newer = saveMessage(me, chatRoom, "나중에 저장된 메시지");
+
+        // when: 늦게 커밋된 이전 메시지의 갱신 시도
+        int updated = chatRoomRepository.updateLastMessage(chatRoom.getId(), older.getId(),
+                older.getContents(), me.getId(), older.getCreatedAt());
+        em.clear();
+
+        // then
+        assertThat(updated).isZero();
+        ChatRoom found = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+        assertThat(found.getLastMessageId()).isEqualTo(newer.getId());
+        assertThat(found.getLastMessagePreview()).isEqualTo("나중에 저장된 메시지");
+    }
+
+    @Test
+    @DisplayName("최근 메시지가 삭제되면 지정한 메시지로 요약이 교체된다")
+    void replaceLastMessage() {
+        // given
+        User me = saveUser("me@knu.ac.kr", "나");
+        ChatRoom chatRoom = saveRoom();
+        ChatMessage older = saveMessage(me, chatRoom, "먼저 저장된 메시지");
+        ChatMessage newer = saveMessage(me, chatRoom, "나중에 저장된 메시지");
+
+        // when
+        int stale = chatRoomRepository.replaceLastMessage(chatRoom.getId(), older.getId(),
+                null, null, null, null);
+        int replaced = chatRoomRepository.replaceLastMessage(chatRoom.getId(), newer.getId(),
+                older.getId(), older.getContents(), me.getId(), older.getCreatedAt());
+        em.clear();
+
+        // then
+        assertThat(stale).isZero();
+        assertThat(replaced).isOne();
+        ChatRoom found = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+        assertThat(found.getLastMessageId()).isEqualTo(older.getId());
+        assertThat(found.getLastMessagePreview()).isEqualTo("먼저 저장된 메시지");
+    }
+
+    @Test
+    @DisplayName("읽음 처리 후 안읽은 메시지 수는 읽은 메시지 이후 다른 사람이 보낸 메시지 수가 된다")
+    void markAsRead_KeepsLaterMessagesUnread() {
+        // given
+        User me = saveUser("me@knu.ac.kr", "나");
+        User other = saveUser("other@knu.ac.kr", "김철수");
+        ChatRoom chatRoom = saveRoom();
+        saveParticipant(me, chatRoom, 0L);
+        saveParticipant(other, chatRoom, 0L);
+        ChatMessage read = saveMessage(other, chatRoom, "첫 메시지");
+
+        // 최신 메시지 조회 이후 커밋된 메시지
+        saveMessage(other, chatRoom, "두 번째 메시지");
+        saveMessage(me, chatRoom, "내 메시지");
+        saveMessage(other, chatRoom, "세 번째 메시지");
+
+        // when
+        int updated = chatParticipantsRepository.markAsRead(chatRoom.getId(), me.getId(), read.getId());
+        em.clear();
+
+        // then: 내가 보낸 메시지는 제외
+        assertThat(updated).isOne();
+        assertThat(chatParticipantsRepository.findUnreadCounts(chatRoom.getId()))
+                .filteredOn(row -> row.userId().equals(me.getId()))
+                .singleElement()
+                .satisfies(row -> assertThat(row.unreadCount()).isEqualTo(2L));
+    }
+
+    @Test
+    @DisplayName("미리보기는 최대 길이까지만 저장된다")
+    void toPreview_Truncates() {
+        // given
+        String contents = "가".repeat(ChatRoom.PREVIEW_MAX_LENGTH + 10);
+
+        // when
+        String preview = ChatRoom.toPreview(contents);
+
+        // then
+        assertThat(preview).hasSize(ChatRoom.PREVIEW_MAX_LENGTH);
+    }
+
+    private User saveUser(String email, String name) {
+        User user = User.builder()
+                .name(name)
+                .email(email)
+                .password("1234")
+                .status(Status.student)
+                .department(Department.computer)
+                .career(Career.employment)
+                .interest(Interest.backend)
+                .mbti(Mbti.ISFP)
+                .mentor(false)
+                .build();
+        em.persist(user);
+        return user;
+    }
+
+    private ChatRoom saveRoom() {
+        ChatRoom chatRoom = ChatRoom.create();
+        em.persist(chatRoom);
+        return chatRoom;
+    }
+
+    private void saveParticipant(User user, ChatRoom chatRoom, Long lastReadMessageId) {
+        em.persist(ChatParticipants.builder()
+                .user(user)
+                .chatRoom(chatRoom)
+                .lastReadMessageId(lastReadMessageId)
+                .build());
+    }
+
+    private ChatMessage saveMessage(User user, ChatRoom chatRoom, String contents) {
+        ChatMessage message = ChatMessage.builder()
+                .user(user)
+                .chatRoom(chatRoom)
+                .contents(contents)
+                .build();
+        em.persist(message);
+        chatRoomRepository.updateLastMessage(chatRoom.getId(), message.getId(),
+                ChatRoom.toPreview(contents), user.getId(), message.getCreatedAt());
+        chatParticipantsRepository.incrementUnreadCount(chatRoom.getId(), user.getId());
+        return message;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.knu_connect.unit.chat.service;
+
+import com.example.knu_connect.domain.chat.dto.projection.ChatParticipantUnreadRow;
+import com.example.knu_connect.domain.chat.dto.response.ChatMessageResponseDto;
+import com.example.knu_connect.domain.chat.dto.response.UnreadCountNotificationDto;
+import com.example.knu_connect.domain.chat.event.ChatMessageSentEvent;
+import com.example.knu_connect.domain.chat.repository.ChatParticipantsRepository;
+import com.example.knu_connect.domain.chat.service.ChatMessageFanoutDispatcher;
+import com.example.knu_connect.domain.chat.service.ChatPresenceCache;
+import com.example.knu_connect.global.websocket.StompBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageFanoutDispatcherTest {
+
+    @Mock
+    private StompBroadcaster stompBroadcaster;
+
+    @Mock
+    private ChatPresenceCache chatPresenceCache;
+
+    @Mock
+    private ChatParticipantsRepository chatParticipantsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageFanoutDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new ChatMessageFanoutDispatcher(
+                stompBroadcaster, chatPresenceCache, chatParticipantsRepository, transactionManager,
+                new SimpleMeterRegistry(), 2, 4, 10, 10);
+    }
+
+    private ChatMessageSentEvent event(Long chatRoomId, Long senderId, Long messageId) {
+        return new ChatMessageSentEvent(chatRoomId, new ChatMessageResponseDto(
+                messageId, senderId, "홍길동", "메시지 " + messageId, LocalDateTime.now()));
+    }
+
+    @Nested
+    class 후속_처리_테스트 {
+
+        @Test
+        void 메세지_브로드캐스트와_안읽은_메세지_수_전송() {
+            // given
+            Long chatRoomId = 1L;
+            ChatMessageSentEvent event = event(chatRoomId, 1L, 10L);
+
+            given(chatParticipantsRepository.findUnreadCounts(chatRoomId)).willReturn(List.of(
+                    new ChatParticipantUnreadRow(1L, 0L),
+                    new ChatParticipantUnreadRow(2L, 3L)
+            ));
+            given(chatPresenceCache.findActiveUserIds(chatRoomId, List.of(1L, 2L))).willReturn(Set.of(1L));
+
+            // when: 워커를 시작하지 않으면 호출 스레드에서 바로 처리
+            dispatcher.dispatch(event);
+
+            // then
+            verify(stompBroadcaster, times(1)).sendToTopic("/topic/chat-rooms/" + chatRoomId, event.message());
+            verify(chatParticipantsRepository, times(1)).markAsRead(chatRoomId, 1L, 10L);
+            verify(stompBroadcaster, times(1)).sendToUser(
+                    2L,
+                    "/queue/chat-rooms/" + chatRoomId + "/unread",
+                    new UnreadCountNotificationDto(chatRoomId, 3L)
+            );
+            verify(stompBroadcaster, never()).sendToUser(eq(1L), anyString(), any());
+        }
+
+        @Test
+        void 채팅방을_열지_않은_보낸_사람은_읽음_처리하지_않음() {
+            // given
+            Long chatRoomId = 1L;
+
+            given(chatParticipantsRepository.findUnreadCounts(chatRoomId)).willReturn(List.of(
+                    new ChatParticipantUnreadRow(1L, 0L)
+            ));
+            given(chatPresenceCache.findActiveUserIds(chatRoomId, List.of(1L))).willReturn(Set.of());
+
+            // when
+            dispatcher.dispatch(event(chatRoomId, 1L, 10L));
+
+            // then
+            verify(chatParticipantsRepository, never()).markAsRead(anyLong(), anyLong(), anyLong());
+        }
+    }
+
+    @Nested
+    class 비동기_처리_테스트 {
+
+        @Test
+        void 큐가_가득_차도_모든_메세지를_순서대로_처리() {
+            // given
+            Long chatRoomId = 1L;
+            int messageCount = 50;
+
+            given(chatPresenceCache.findActiveUserIds(anyLong(), anyList())).willReturn(Set.of());
+            given(chatParticipantsRepository.findUnreadCounts(chatRoomId)).willReturn(List.of());
+
+            dispatcher.start();
+
+            // when
+            for (long messageId = 1; messageId <= messageCount; messageId++) {
+                dispatcher.dispatch(event(chatRoomId, 1L, messageId));
+            }
+            dispatcher.stop();
+
+            // then
+            verify(stompBroadcaster, times(messageCount))
+                    .sendToTopic(eq("/topic/chat-rooms/" + chatRoomId), any(ChatMessageResponseDto.class));
+        }
+
+        @Test
+        void 같은_채팅방_메세지는_전송_순서를_유지() {
+            // given
+            Long chatRoomId = 3L;
+            ChatMessageSentEvent first = event(chatRoomId, 1L, 1L);
+            ChatMessageSentEvent second = event(chatRoomId, 2L, 2L);
+
+            given(chatPresenceCache.findActiveUserIds(anyLong(), anyList())).willReturn(Set.of());
+            given(chatParticipantsRepository.findUnreadCounts(chatRoomId)).willReturn(List.of());
+
+            dispatcher.start();
+
+            // when
+            dispatcher.dispatch(first);
+            dispatcher.dispatch(second);
+            dispatcher.stop();
+
+            // then
+            InOrder inOrder = inOrder(stompBroadcaster);
+            inOrder.verify(stompBroadcaster).sendToTopic("/topic/chat-rooms/" + chatRoomId, first.message());
+            inOrder.verify(stompBroadcaster).sendToTopic("/topic/chat-rooms/" + chatRoomId, second.message());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.knu_connect.unit.chat.service;
+
+import com.example.knu_connect.domain.chat.service.ChatPresenceCache;
+import com.example.knu_connect.domain.chat.service.RedisChatManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceCacheTest {
+
+    @Mock
+    private RedisChatManager redisChatManager;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    // Redis 대신 사용하는 인메모리 접속 상태 저장소와 Pub/Sub 구독자 목록
+    private final Map<Long, Set<Long>> presenceStore = new HashMap<>();
+    private final List<ChatPresenceCache> subscribers = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(redisChatManager.findActiveUserIds(anyLong())).willAnswer(invocation ->
+                new HashSet<>(presenceStore.getOrDefault(invocation.<Long>getArgument(0), Set.of())));
+    }
+
+    // 캐시 적재는 호출 스레드에서 실행 (인메모리 저장소를 한 스레드에서만 접근)
+    private ChatPresenceCache newNode() {
+        ChatPresenceCache node = new ChatPresenceCache(redisChatManager, listenerContainer, meterRegistry,
+                Runnable::run, 60_000, 100);
+        subscribers.add(node);
+        return node;
+    }
+
+    // 입장 처리 후 모든 인스턴스에 이벤트 발행
+    private void open(Long chatRoomId, Long userId) {
+        presenceStore.computeIfAbsent(chatRoomId, id -> new HashSet<>()).add(userId);
+        publish(chatRoomId + ":" + userId + ":OPEN");
+    }
+
+    private void publish(String event) {
+        DefaultMessage message = new DefaultMessage(
+                RedisChatManager.PRESENCE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                event.getBytes(StandardCharsets.UTF_8));
+        subscribers.forEach(subscriber -> subscriber.onMessage(message, null));
+    }
+
+    @Test
+    void 캐시된_채팅방은_Redis를_다시_조회하지_않음() {
+        // given
+        ChatPresenceCache node = newNode();
+        presenceStore.put(1L, Set.of(1L, 2L));
+
+        // when
+        Set<Long> first = node.findActiveUserIds(1L, List.of(1L, 2L, 3L));
+        Set<Long> second = node.findActiveUserIds(1L, List.of(2L, 3L));
+
+        // then
+        assertThat(first).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(second).containsExactly(2L);
+        verify(redisChatManager, times(1)).findActiveUserIds(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ChatPresenceCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ChatPresenceCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_인스턴스에서_입장하면_모든_인스턴스의_캐시가_무효화됨() {
+        // given
+        ChatPresenceCache nodeA = newNode();
+        ChatPresenceCache nodeB = newNode();
+        assertThat(nodeA.findActiveUserIds(1L, List.of(2L))).isEmpty();
+        assertThat(nodeB.findActiveUserIds(1L, List.of(2L))).isEmpty();
+
+        // when: A 인스턴스로 접속한 사용자가 채팅방 입장
+        open(1L, 2L);
+
+        // then
+        assertThat(nodeA.findActiveUserIds(1L, List.of(2L))).containsExactly(2L);
+        assertThat(nodeB.findActiveUserIds(1L, List.of(2L))).containsExactly(2L);
+    }
+
+    @Test
+    void 다른_채팅방_이벤트는_캐시에_영향을_주지_않음() {
+        // given
+        ChatPresenceCache node = newNode();
+        node.findActiveUserIds(1L, List.of(2L));
+
+        // when
+        open(5L, 2L);
+        publish("잘못된 이벤트");
+        node.findActiveUserIds(1L, List.of(2L));
+
+        // then
+        verify(redisChatManager, times(1)).findActiveUserIds(1L);
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.knu_connect.unit.chat.service;
 
+import com.example.knu_connect.domain.chat.dto.projection.ChatRoomInboxRow;
+import com.example.knu_connect.domain.chat.dto.projection.ChatRoomMemberNameRow;
 import com.example.knu_connect.domain.chat.dto.request.ChatMessageSendRequestDto;
 import com.example.knu_connect.domain.chat.dto.request.ChatRoomCreateRequestDto;
 import com.example.knu_connect.domain.chat.dto.response.*;
 import com.example.knu_connect.domain.chat.entitiy.ChatMessage;
 import com.example.knu_connect.domain.chat.entitiy.ChatParticipants;
 import com.example.knu_connect.domain.chat.entitiy.ChatRoom;
+import com.example.knu_connect.domain.chat.event.ChatMessageSentEvent;
 import com.example.knu_connect.domain.chat.repository.ChatMessageRepository;
 import com.example.knu_connect.domain.chat.repository.ChatParticipantsRepository;
 import com.example.knu_connect.domain.chat.repository.ChatRoomRepository;
@@ -17,6 +20,7 @@ import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
+import com.example.knu_connect.global.websocket.StompBroadcaster;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,8 +29,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -58,7 +63,7 @@ class ChatServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private StompBroadcaster stompBroadcaster;
 
     @Mock
     private RedisChatManager redisChatManager;
@@ -66,6 +71,9 @@ class ChatServiceImplTest {
     @Mock
     private NetworkingRepository networkingRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User user1;
     private User user2;
     private ChatRoom chatRoom;
@@ -227,7 +235,6 @@ class ChatServiceImplTest {
 
             given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
             given(userRepository.findById(userId)).willReturn(Optional.of(user1));
-            given(redisChatManager.isUserActive(chatRoomId, userId)).willReturn(false);
 
             // save 호출 시 전달받은 message에 ID를 설정하고 반환
             given(chatMessageRepository.save(any(ChatMessage.class))).willAnswer(invocation -> {
@@ -243,8 +250,13 @@ class ChatServiceImplTest {
             assertThat(response.content()).isEqualTo("안녕하세요");
             assertThat(response.senderId()).isEqualTo(1L);
             verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
-            verify(messagingTemplate, times(1))
-                    .convertAndSend(eq("/topic/chat-rooms/" + chatRoomId), any(ChatMessageResponseDto.class));
+            verify(chatRoomRepository, times(1))
+                    .updateLastMessage(eq(chatRoomId), eq(1L), eq("안녕하세요"), eq(userId), any());
+            verify(chatParticipantsRepository, times(1)).incrementUnreadCount(chatRoomId, userId);
+            verify(eventPublisher, times(1)).publishEvent(new ChatMessageSentEvent(chatRoomId, response));
+
+            // 브로드캐스트와 알림은 커밋 이후 처리되므로 트랜잭션 안에서는 전송하지 않음
+            verifyNoInteractions(stompBroadcaster, redisChatManager);
         }
 
         @Test
@@ -366,25 +378,25 @@ class ChatServiceImplTest {
         void 채팅방_목록_조회() {
             // given
             Long userId = 1L;
-            List<ChatRoom> chatRooms = List.of(chatRoom);
-            List<Long> chatRoomIds = List.of(1L);
+            LocalDateTime now = LocalDateTime.now();
 
-            given(chatRoomRepository.findAllByUserId(userId)).willReturn(chatRooms);
-            given(chatRoomRepository.findAllWithParticipantsAndUsers(chatRoomIds))
-                    .willReturn(chatRooms);
-            given(chatMessageRepository.findFirstByChatRoomIdOrderByCreatedAtDesc(1L))
-                    .willReturn(Optional.empty());
-            given(chatParticipantsRepository.findByUserIdAndChatRoomId(userId, 1L))
-                    .willReturn(Optional.of(participant1));
-            given(chatMessageRepository.countUnreadMessages(anyLong(), anyLong(), anyLong()))
-                    .willReturn(0L);
+            given(chatRoomRepository.findInboxByUserId(userId)).willReturn(List.of(
+                    new ChatRoomInboxRow(2L, "Test Networking", "최근 메시지", now, 3L),
+                    new ChatRoomInboxRow(1L, null, null, now.minusDays(1), 0L)
+            ));
+            given(chatParticipantsRepository.findOtherMemberNames(List.of(1L), userId))
+                    .willReturn(List.of(new ChatRoomMemberNameRow(1L, "김철수")));
 
             // when
             ChatRoomListResponseDto response = chatService.getChatRoomList(userId);
 
             // then
-            assertThat(response.chatRooms()).hasSize(1);
-            assertThat(response.chatRooms().get(0).title()).isEqualTo("김철수");
+            assertThat(response.chatRooms()).hasSize(2);
+            assertThat(response.chatRooms().get(0).title()).isEqualTo("Test Networking");
+            assertThat(response.chatRooms().get(0).unreadCount()).isEqualTo(3L);
+            assertThat(response.chatRooms().get(0).recentMessage()).isEqualTo("최근 메시지");
+            assertThat(response.chatRooms().get(1).title()).isEqualTo("김철수");
+            assertThat(response.chatRooms().get(1).recentMessage()).isEmpty();
         }
 
         @Test
@@ -392,7 +404,7 @@ class ChatServiceImplTest {
             // given
             Long userId = 1L;
 
-            given(chatRoomRepository.findAllByUserId(userId)).willReturn(List.of());
+            given(chatRoomRepository.findInboxByUserId(userId)).willReturn(List.of());
 
             // when
             ChatRoomListResponseDto response = chatService.getChatRoomList(userId);
@@ -426,11 +438,49 @@ class ChatServiceImplTest {
 
             // then
             verify(chatMessageRepository, times(1)).delete(message);
-            verify(messagingTemplate, times(1))
-                    .convertAndSend(eq("/topic/chat-rooms/" + chatRoomId + "/updates"),
+            verify(chatParticipantsRepository, times(1)).decrementUnreadCount(chatRoomId, userId, chatId);
+            verify(chatRoomRepository, never())
+                    .replaceLastMessage(anyLong(), anyLong(), any(), any(), any(), any());
+            verify(stompBroadcaster, times(1))
+                    .sendToTopic(eq("/topic/chat-rooms/" + chatRoomId + "/updates"),
                             any(MessageDeletedResponseDto.class));
         }
 
+        @Test
+        void 최근_메세지_삭제시_이전_메세지로_요약_교체() {
+            // given
+            Long userId = 1L;
+            Long chatRoomId = 1L;
+            Long chatId = 2L;
+
+            ChatMessage previous = ChatMessage.builder()
+                    .user(user2)
+                    .chatRoom(chatRoom)
+                    .contents("이전 메시지")
+                    .build();
+            setId(previous, 1L);
+
+            ChatMessage message = ChatMessage.builder()
+                    .user(user1)
+                    .chatRoom(chatRoom)
+                    .contents("최근 메시지")
+                    .build();
+            setId(message, chatId);
+            ReflectionTestUtils.setField(chatRoom, "lastMessageId", chatId);
+
+            given(chatMessageRepository.findById(chatId)).willReturn(Optional.of(message));
+            given(chatMessageRepository.findFirstByChatRoomIdOrderByIdDesc(chatRoomId))
+                    .willReturn(Optional.of(previous));
+
+            // when
+            chatService.deleteMessage(userId, chatRoomId, chatId);
+
+            // then
+            verify(chatMessageRepository, times(1)).delete(message);
+            verify(chatRoomRepository, times(1))
+                    .replaceLastMessage(eq(chatRoomId), eq(chatId), eq(1L), eq("이전 메시지"), eq(2L), any());
+        }
+
         @Test
         void 남의_메세지를_삭제하려는_경우() {
             // given
@@ -467,15 +517,14 @@ class ChatServiceImplTest {
             given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
             given(chatMessageRepository.findLatestMessageId(chatRoomId))
                     .willReturn(Optional.of(latestMessageId));
-            given(chatParticipantsRepository.findByUserIdAndChatRoomId(userId, chatRoomId))
-                    .willReturn(Optional.of(participant1));
 
             // when
             chatService.openChatRoom(userId, chatRoomId);
 
-            // then
+            // then: 엔티티를 읽어 저장하지 않고 조건부 UPDATE로 읽음 처리
             verify(redisChatManager, times(1)).markUserActive(chatRoomId, userId);
-            verify(chatParticipantsRepository, times(1)).save(participant1);
+            verify(chatParticipantsRepository, times(1)).markAsRead(chatRoomId, userId, latestMessageId);
+            verify(chatParticipantsRepository, never()).save(any());
         }
     }
 
@@ -527,7 +576,6 @@ class ChatServiceImplTest {
             Long chatRoomId = 1L;
 
             given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-            given(networkingRepository.findByChatRoomId(chatRoomId)).willReturn(Optional.of(networking));
 
             // when
             chatService.leaveChatRoom(userId, chatRoomId);
@@ -535,7 +583,8 @@ class ChatServiceImplTest {
             // then
             assertThat(chatRoom.getParticipants()).hasSize(1);
             assertThat(chatRoom.getParticipants().get(0).getUserId()).isEqualTo(user2.getId());
-            assertThat(networking.getCurNumber()).isEqualTo(1);
+            // 네트워킹 인원은 DB에서 원자적으로 감소
+            verify(networkingRepository).decreaseCurNumberByChatRoomId(chatRoomId);
             verify(chatRoomRepository, never()).delete(any(ChatRoom.class));
         }
 
@@ -0,0 +1,75 @@
+package com.example.knu_connect.unit.chat.service;
+
+import com.example.knu_connect.domain.chat.service.RedisChatManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisChatManagerTest {
+
+    @InjectMocks
+    private RedisChatManager redisChatManager;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    void 채팅방_입장시_채팅방과_사용자_키를_함께_갱신() {
+        // when
+        redisChatManager.markUserActive(1L, 2L);
+
+        // then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of("chat:presence:room:1", "chat:presence:user:2")),
+                eq("2"), eq("1"), anyString(), eq("300"), eq(RedisChatManager.PRESENCE_CHANNEL));
+    }
+
+    @Test
+    void 주어진_사용자_중_활성_사용자만_조회() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("chat:presence:room:1")), anyString()))
+                .willReturn(List.of("1", "3", "4"));
+
+        // when
+        Set<Long> activeUserIds = redisChatManager.findActiveUserIds(1L, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(activeUserIds).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void 사용자가_보고_있는_채팅방_조회() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("chat:presence:user:2")), anyString()))
+                .willReturn(List.of("1", "5"));
+
+        // when
+        Set<Long> chatRoomIds = redisChatManager.findViewingChatRoomIds(2L);
+
+        // then
+        assertThat(chatRoomIds).containsExactlyInAnyOrder(1L, 5L);
+    }
+
+    @Test
+    void 조회할_사용자가_없으면_Redis를_호출하지_않음() {
+        // when
+        Set<Long> activeUserIds = redisChatManager.findActiveUserIds(1L, List.of());
+
+        // then
+        assertThat(activeUserIds).isEmpty();
+        verifyNoInteractions(redisTemplate);
+    }
+}
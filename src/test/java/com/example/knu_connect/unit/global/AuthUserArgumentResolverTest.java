@@ -1,5 +1,6 @@
 package com.example.knu_connect.unit.global;
 
+import com.example.knu_connect.global.auth.jwt.AuthPrincipal;
 import com.example.knu_connect.global.auth.jwt.CustomUserDetails;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.global.annotation.AuthUser;
@@ -44,7 +45,7 @@ class AuthUserArgumentResolverTest {
     void supportsParameter_AllValid_ReturnsTrue() {
         // given
         when(parameter.hasParameterAnnotation(AuthUser.class)).thenReturn(true);
-        when(parameter.getParameterType()).thenReturn((Class) User.class);
+        when(parameter.getParameterType()).thenReturn((Class) AuthPrincipal.class);
 
         // when
         boolean result = resolver.supportsParameter(parameter);
@@ -54,8 +55,22 @@ class AuthUserArgumentResolverTest {
     }
 
     @Test
-    @DisplayName("파라미터 조건 틀림 - User.class가 아님")
-    void supportsParameter_NotUserType_ReturnsFalse() {
+    @DisplayName("파라미터 조건 틀림 - User 엔티티는 주입하지 않음")
+    void supportsParameter_UserEntity_ReturnsFalse() {
+        // given
+        when(parameter.hasParameterAnnotation(AuthUser.class)).thenReturn(true);
+        when(parameter.getParameterType()).thenReturn((Class) User.class);
+
+        // when
+        boolean result = resolver.supportsParameter(parameter);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("파라미터 조건 틀림 - AuthPrincipal이 아님")
+    void supportsParameter_NotPrincipalType_ReturnsFalse() {
         // given
         when(parameter.hasParameterAnnotation(AuthUser.class)).thenReturn(true);
         when(parameter.getParameterType()).thenReturn((Class) String.class);
@@ -68,12 +83,13 @@ class AuthUserArgumentResolverTest {
     }
 
     @Test
-    @DisplayName("resolveArgument 성공 - User 반환")
-    void resolveArgument_Authenticated_ReturnsUser() throws Exception {
+    @DisplayName("resolveArgument 성공 - CustomUserDetails는 AuthPrincipal로 변환")
+    void resolveArgument_CustomUserDetails_ReturnsPrincipal() throws Exception {
         // given
         User mockUser = mock(User.class);
-        CustomUserDetails userDetails = mock(CustomUserDetails.class);
-        when(userDetails.getUser()).thenReturn(mockUser);
+        when(mockUser.getId()).thenReturn(1L);
+        when(mockUser.getEmail()).thenReturn("test@knu.ac.kr");
+        CustomUserDetails userDetails = new CustomUserDetails(mockUser);
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -83,7 +99,22 @@ class AuthUserArgumentResolverTest {
         Object result = resolver.resolveArgument(parameter, null, null, null);
 
         // then
-        assertThat(result).isEqualTo(mockUser);
+        assertThat(result).isEqualTo(new AuthPrincipal(1L, "test@knu.ac.kr", false));
+    }
+
+    @Test
+    @DisplayName("resolveArgument 성공 - AuthPrincipal은 DB 조회 없이 그대로 반환")
+    void resolveArgument_AuthPrincipalParameter_ReturnsPrincipal() throws Exception {
+        // given
+        AuthPrincipal principal = new AuthPrincipal(1L, "test@knu.ac.kr", false);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, null));
+
+        // when
+        Object result = resolver.resolveArgument(parameter, null, null, null);
+
+        // then
+        assertThat(result).isSameAs(principal);
     }
 
     @Test
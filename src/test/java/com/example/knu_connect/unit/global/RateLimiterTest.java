@@ -0,0 +1,114 @@
+package com.example.knu_connect.unit.global;
+
+import com.example.knu_connect.global.exception.common.BusinessException;
+import com.example.knu_connect.global.exception.common.ErrorCode;
+import com.example.knu_connect.global.ratelimit.RateLimitExceededException;
+import com.example.knu_connect.global.ratelimit.RateLimitPolicy;
+import com.example.knu_connect.global.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitPolicy policy = new RateLimitPolicy("email-send:email", 2, Duration.ofMinutes(1));
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter(redisTemplate, meterRegistry, 1000, 60_000);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("ratelimit.requests").tag("policy", policy.name()).tag("result", result)
+                .counter().count();
+    }
+
+    @Test
+    void Redis_버킷이_비면_429와_대기시간을_응답() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("ratelimit:email-send:email:test@knu.ac.kr")),
+                eq("2"), eq("60000"), anyString()))
+                .willReturn(0L, 0L, 4_500L);
+
+        // when
+        rateLimiter.acquire(policy, "test@knu.ac.kr");
+        rateLimiter.acquire(policy, "test@knu.ac.kr");
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.acquire(policy, "test@knu.ac.kr"));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(exception.getMessage()).contains("5초");
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(5);
+        assertThat(requests("allowed")).isEqualTo(2);
+        assertThat(requests("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void Redis_장애시_로컬_버킷으로_제한() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        rateLimiter.acquire(policy, "test@knu.ac.kr");
+        rateLimiter.acquire(policy, "test@knu.ac.kr");
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> rateLimiter.acquire(policy, "test@knu.ac.kr"));
+        rateLimiter.acquire(policy, "other@knu.ac.kr");
+
+        // then: 첫 실패 이후에는 대기 시간 동안 Redis를 다시 호출하지 않음
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any(), any());
+        assertThat(meterRegistry.get("ratelimit.fallback").tag("policy", policy.name()).counter().count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void 반환한_토큰은_다시_사용할_수_있음() {
+        // given: Redis 장애로 로컬 버킷 사용
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+        rateLimiter.acquire(policy, "test@knu.ac.kr");
+        rateLimiter.acquire(policy, "test@knu.ac.kr");
+
+        // when
+        rateLimiter.release(policy, "test@knu.ac.kr");
+
+        // then: 반환한 1개만 다시 허용
+        rateLimiter.acquire(policy, "test@knu.ac.kr");
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(policy, "test@knu.ac.kr"));
+    }
+
+    @Test
+    void 토큰_반환은_Redis_버킷에_반영() {
+        // when
+        rateLimiter.release(policy, "test@knu.ac.kr");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("ratelimit:email-send:email:test@knu.ac.kr")),
+                eq("2"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.knu_connect.unit.global;
+
+import com.example.knu_connect.global.config.RedisSubscriptionHealthIndicator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSubscriptionHealthIndicatorTest {
+
+    @Mock
+    private RedisMessageListenerContainer cacheListenerContainer;
+
+    @Mock
+    private RedisMessageListenerContainer stompRelayListenerContainer;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> stompRelayProvider;
+
+    @Test
+    void 중계_구독이_끊기면_DOWN() {
+        // given
+        given(cacheListenerContainer.isListening()).willReturn(true);
+        given(stompRelayListenerContainer.isListening()).willReturn(false);
+        given(stompRelayProvider.getIfAvailable()).willReturn(stompRelayListenerContainer);
+
+        // when
+        Health health = new RedisSubscriptionHealthIndicator(cacheListenerContainer, stompRelayProvider).health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("stompRelay", "not subscribed");
+    }
+
+    @Test
+    void 캐시_무효화_구독만_끊기면_UP으로_두고_상태만_표시() {
+        // given: simple 모드 (중계 컨테이너 없음)
+        given(cacheListenerContainer.isListening()).willReturn(false);
+        given(stompRelayProvider.getIfAvailable()).willReturn(null);
+
+        // when
+        Health health = new RedisSubscriptionHealthIndicator(cacheListenerContainer, stompRelayProvider).health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+                .containsEntry("cacheInvalidation", "not subscribed")
+                .doesNotContainKey("stompRelay");
+    }
+}
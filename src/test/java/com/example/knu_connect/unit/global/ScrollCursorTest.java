@@ -0,0 +1,61 @@
+package com.example.knu_connect.unit.global;
+
+import com.example.knu_connect.global.exception.common.BusinessException;
+import com.example.knu_connect.global.exception.common.ErrorCode;
+import com.example.knu_connect.global.pagination.ScrollCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScrollCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 마이크로초까지 같은 위치를 복원한다")
+    void encodeAndDecode() {
+        // given
+        ScrollCursor cursor = new ScrollCursor(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000), 42L);
+
+        // when
+        ScrollCursor decoded = ScrollCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지로 본다")
+    void decode_blank() {
+        assertThat(ScrollCursor.decode(null)).isNull();
+        assertThat(ScrollCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 잘못된 입력값 예외를 던진다")
+    void decode_invalid() {
+        String notBase64 = "not a cursor!";
+        String noDelimiter = Base64.getUrlEncoder().encodeToString("2024-01-15T10:30".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2024-01-15T10:30|abc".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : new String[]{notBase64, noDelimiter, badId}) {
+            assertThatThrownBy(() -> ScrollCursor.decode(cursor))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 이상 최대 크기 이하만 허용한다")
+    void checkSize() {
+        ScrollCursor.checkSize(1);
+        ScrollCursor.checkSize(ScrollCursor.MAX_SIZE);
+
+        assertThatThrownBy(() -> ScrollCursor.checkSize(0)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> ScrollCursor.checkSize(ScrollCursor.MAX_SIZE + 1)).isInstanceOf(BusinessException.class);
+    }
+}
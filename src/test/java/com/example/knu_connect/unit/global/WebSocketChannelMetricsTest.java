@@ -0,0 +1,88 @@
+package com.example.knu_connect.unit.global;
+
+import com.example.knu_connect.global.websocket.WebSocketChannelMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketChannelMetricsTest {
+
+    private ThreadPoolTaskExecutor inboundExecutor;
+    private ThreadPoolTaskExecutor outboundExecutor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        inboundExecutor = newExecutor();
+        outboundExecutor = newExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        new WebSocketChannelMetrics(inboundExecutor, outboundExecutor).bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inboundExecutor.shutdown();
+        outboundExecutor.shutdown();
+    }
+
+    private ThreadPoolTaskExecutor newExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.initialize();
+        return executor;
+    }
+
+    private double gauge(String name, String channel) {
+        return meterRegistry.get(name).tag("channel", channel).gauge().value();
+    }
+
+    @Test
+    void 처리_대기중인_메세지_수를_채널별로_측정() throws InterruptedException {
+        // given: outbound 스레드가 느린 클라이언트 전송으로 묶여 있는 상황
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        outboundExecutor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+
+        // when
+        outboundExecutor.execute(() -> { });
+        outboundExecutor.execute(() -> { });
+
+        // then
+        assertThat(gauge("websocket.channel.queued", "outbound")).isEqualTo(2);
+        assertThat(gauge("websocket.channel.active", "outbound")).isEqualTo(1);
+        assertThat(gauge("websocket.channel.queued", "inbound")).isZero();
+        release.countDown();
+    }
+
+    @Test
+    void 가상_스레드_executor는_스레드_풀_메트릭을_등록하지_않음() {
+        // given
+        SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("ws-inbound-");
+        virtualExecutor.setVirtualThreads(true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // when
+        new WebSocketChannelMetrics(virtualExecutor, outboundExecutor).bindTo(registry);
+
+        // then
+        assertThat(registry.find("websocket.channel.queued").tag("channel", "inbound").gauge()).isNull();
+        assertThat(registry.find("websocket.channel.queued").tag("channel", "outbound").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.knu_connect.unit.mentor.service;
+
+import com.example.knu_connect.domain.mentor.dto.response.MentorListResponseDto;
+import com.example.knu_connect.domain.mentor.service.MentorIndex;
+import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.domain.user.entity.enums.*;
+import com.example.knu_connect.domain.user.event.UserPrincipalChangedEvent;
+import com.example.knu_connect.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MentorIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final List<User> mentors = new ArrayList<>();
+    private MentorIndex mentorIndex;
+
+    @BeforeEach
+    void setUp() {
+        mentorIndex = new MentorIndex(userRepository, redisTemplate, listenerContainer, Runnable::run, true);
+    }
+
+    private User mentor(long id, String name, String introduction, Career career, Interest interest) {
+        User user = User.builder()
+                .name(name)
+                .email("mentor" + id + "@knu.ac.kr")
+                .password("password")
+                .status(Status.graduate)
+                .department(Department.computer)
+                .career(career)
+                .interest(interest)
+                .mbti(Mbti.ENFP)
+                .mentor(true)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        user.update(null, null, null, null, null, null, introduction, null);
+        mentors.add(user);
+        return user;
+    }
+
+    private void rebuild() {
+        given(userRepository.findByMentorTrueOrderByIdAsc()).willReturn(mentors);
+        mentorIndex.rebuild();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                MentorIndex.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<Long> ids(MentorIndex.SearchResult result) {
+        return result.mentors().stream().map(MentorListResponseDto.MentorDto::mentorId).toList();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 검색하지 않는다")
+    void search_beforeRebuild_returnsEmpty() {
+        assertThat(mentorIndex.search(null, null, null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("진로/관심 분야로 필터링하고 항목별 수는 자신을 제외한 조건으로 계산한다")
+    void search_facets() {
+        // given
+        mentor(1L, "김철수", "백엔드 멘토", Career.employment, Interest.backend);
+        mentor(2L, "이영희", "창업 멘토", Career.startup, Interest.backend);
+        mentor(3L, "박민수", "AI 멘토", Career.employment, Interest.ai);
+        rebuild();
+
+        // when
+        MentorIndex.SearchResult result = mentorIndex.search("employment", "backend", null, 0, 10).orElseThrow();
+
+        // then
+        assertThat(ids(result)).containsExactly(1L);
+        // 진로별 수: 관심 분야(backend)만 적용
+        assertThat(result.facets().career())
+                .containsEntry("employment", 1L)
+                .containsEntry("startup", 1L)
+                .containsEntry("matriculation", 0L);
+        // 관심 분야별 수: 진로(employment)만 적용
+        assertThat(result.facets().interest())
+                .containsEntry("backend", 1L)
+                .containsEntry("ai", 1L)
+                .containsEntry("frontend", 0L);
+    }
+
+    @Test
+    @DisplayName("키워드는 이름이나 소개에 연속으로 포함된 멘토만 대소문자 구분 없이 찾는다")
+    void search_keyword() {
+        // given
+        mentor(1L, "김철수", "Spring 백엔드 개발자", Career.employment, Interest.backend);
+        mentor(2L, "자바자", "소개", Career.employment, Interest.backend);
+        mentor(3L, "이영희", "자바 바자회 운영", Career.startup, Interest.data);  // 2-gram은 모두 있지만 연속되지 않음
+        rebuild();
+
+        // when & then
+        assertThat(ids(mentorIndex.search(null, null, "spring", 0, 10).orElseThrow())).containsExactly(1L);
+        assertThat(ids(mentorIndex.search(null, null, "자바자", 0, 10).orElseThrow())).containsExactly(2L);
+        assertThat(ids(mentorIndex.search(null, null, "영", 0, 10).orElseThrow())).containsExactly(3L);
+        assertThat(ids(mentorIndex.search(null, null, "없는키워드", 0, 10).orElseThrow())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ID 순으로 페이지를 나누고 다음 페이지 여부를 반환한다")
+    void search_paging() {
+        // given
+        for (long id = 5; id >= 1; id--) {
+            mentor(id, "멘토" + id, null, Career.employment, Interest.backend);
+        }
+        rebuild();
+
+        // when
+        MentorIndex.SearchResult first = mentorIndex.search(null, null, null, 0, 2).orElseThrow();
+        MentorIndex.SearchResult last = mentorIndex.search(null, null, null, 4, 2).orElseThrow();
+
+        // then
+        assertThat(ids(first)).containsExactly(1L, 2L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(ids(last)).containsExactly(5L);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 진로 값이면 결과가 없다")
+    void search_invalidFacetValue() {
+        // given
+        mentor(1L, "김철수", null, Career.employment, Interest.backend);
+        rebuild();
+
+        // when
+        MentorIndex.SearchResult result = mentorIndex.search("unknown", null, null, 0, 10).orElseThrow();
+
+        // then
+        assertThat(result.mentors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 정보가 바뀌면 해당 멘토만 다시 반영하고 다른 인스턴스에 알린다")
+    void onUserChanged_reloadsMentor() {
+        // given
+        User user = mentor(1L, "김철수", "백엔드", Career.employment, Interest.backend);
+        rebuild();
+
+        // when: 관심 분야 변경
+        user.update(null, null, null, null, "ai", null, null, null);
+        given(userRepository.findByEmail(user.getEmail())).willReturn(Optional.of(user));
+        mentorIndex.onUserChanged(new UserPrincipalChangedEvent(user.getEmail()));
+
+        // then
+        assertThat(mentorIndex.search(null, "backend", null, 0, 10).orElseThrow().mentors()).isEmpty();
+        assertThat(ids(mentorIndex.search(null, "ai", null, 0, 10).orElseThrow())).containsExactly(1L);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(MentorIndex.CHANNEL), published.capture());
+        assertThat(published.getValue()).endsWith("|" + user.getEmail());
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 변경 메시지는 다시 반영하지 않는다")
+    void onMessage_ignoresOwnPublish() {
+        // given
+        User user = mentor(1L, "김철수", "백엔드", Career.employment, Interest.backend);
+        rebuild();
+        given(userRepository.findByEmail(user.getEmail())).willReturn(Optional.of(user));
+        mentorIndex.onUserChanged(new UserPrincipalChangedEvent(user.getEmail()));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(MentorIndex.CHANNEL), published.capture());
+
+        // when: 같은 채널로 자신이 발행한 메시지를 다시 수신
+        mentorIndex.onMessage(message(published.getValue()), null);
+
+        // then: 커밋 이후 한 번만 조회
+        verify(userRepository, times(1)).findByEmail(user.getEmail());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 재조회는 하나씩 실행하고 실행 중 들어온 요청은 끝난 뒤 다시 조회한다")
+    void onMessage_serializesReloadPerEmail() {
+        // given: 작업을 바로 실행하지 않고 모아 두는 executor
+        List<Runnable> tasks = new ArrayList<>();
+        mentorIndex = new MentorIndex(userRepository, redisTemplate, listenerContainer, tasks::add, true);
+        User user = mentor(1L, "김철수", "백엔드", Career.employment, Interest.backend);
+        rebuild();
+
+        // 첫 조회 도중 변경 메시지가 다시 도착하고, 그 조회는 변경 전 값을 읽음
+        User stale = mentor(1L, "김철수", "백엔드", Career.employment, Interest.backend);
+        mentors.remove(mentors.size() - 1);
+        user.update(null, null, null, null, "ai", null, null, null);
+        given(userRepository.findByEmail(user.getEmail()))
+                .willAnswer(invocation -> {
+                    mentorIndex.onMessage(message("other-node|" + user.getEmail()), null);
+                    return Optional.of(stale);
+                })
+                .willReturn(Optional.of(user));
+
+        // when
+        mentorIndex.onMessage(message("other-node|" + user.getEmail()), null);
+        mentorIndex.onMessage(message("other-node|" + user.getEmail()), null);
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+
+        // then: 새 작업 없이 같은 작업에서 한 번 더 조회해 최신 값이 마지막에 반영됨
+        assertThat(tasks).hasSize(1);
+        verify(userRepository, times(2)).findByEmail(user.getEmail());
+        assertThat(mentorIndex.search(null, "backend", null, 0, 10).orElseThrow().mentors()).isEmpty();
+        assertThat(ids(mentorIndex.search(null, "ai", null, 0, 10).orElseThrow())).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 멘토를 그만둔 사용자는 인덱스에서 제거된다")
+    void onMessage_removesFormerMentor() {
+        // given
+        User user = mentor(1L, "김철수", "백엔드", Career.employment, Interest.backend);
+        rebuild();
+        user.update(null, null, null, null, null, false, null, null);
+        given(userRepository.findByEmail(user.getEmail())).willReturn(Optional.of(user));
+
+        // when
+        mentorIndex.onMessage(message("other-node|" + user.getEmail()), null);
+
+        // then
+        MentorIndex.SearchResult result = mentorIndex.search(null, null, "백엔드", 0, 10).orElseThrow();
+        assertThat(result.mentors()).isEmpty();
+        assertThat(result.facets().career()).containsEntry("employment", 0L);
+    }
+}
@@ -1,26 +1,33 @@
 package com.example.knu_connect.unit.mentor.service;
 
+import com.example.knu_connect.domain.mentor.service.MentorIndex;
 import com.example.knu_connect.domain.mentor.service.MentorService;
 import com.example.knu_connect.domain.mentor.dto.response.MentorDetailResponseDto;
 import com.example.knu_connect.domain.mentor.dto.response.MentorListResponseDto;
+import com.example.knu_connect.domain.mentor.dto.response.MentorScrollResponseDto;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.entity.enums.*;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
+import com.example.knu_connect.global.pagination.ScrollCursor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +38,7 @@ import static org.mockito.Mockito.*;
 class MentorServiceTest {
 
     @Mock UserRepository userRepository;
+    @Mock MentorIndex mentorIndex;
     @InjectMocks MentorService mentorService;
 
     private User mockUser;
@@ -49,9 +57,9 @@ class MentorServiceTest {
         when(mockUser.getIntroduction()).thenReturn("안녕하세요");
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<User> page = new PageImpl<>(List.of(mockUser), pageable, 1);
+        Slice<User> page = new SliceImpl<>(List.of(mockUser), pageable, false);
 
-        when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
+        when(userRepository.findBy(any(Specification.class), any()))
                 .thenReturn(page);
 
         // when
@@ -68,7 +76,115 @@ class MentorServiceTest {
         assertThat(dto.size()).isEqualTo(1);
         assertThat(dto.hasNext()).isFalse();
 
-        verify(userRepository).findAll(any(Specification.class), any(Pageable.class));
+        verify(userRepository).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    @DisplayName("멘토 인덱스가 적재되어 있으면 DB를 조회하지 않고 인덱스 결과와 항목별 멘토 수를 반환")
+    void getMentorList_FromIndex() {
+        // given
+        MentorListResponseDto.MentorDto mentor = new MentorListResponseDto.MentorDto(
+                1L, "홍길동", "computer", "graduate", "employment", "backend", "ENFP", "안녕하세요");
+        MentorListResponseDto.FacetsDto facets = new MentorListResponseDto.FacetsDto(
+                Map.of("employment", 1L), Map.of("backend", 1L));
+        when(mentorIndex.search("employment", "backend", "홍", 10L, 10))
+                .thenReturn(Optional.of(new MentorIndex.SearchResult(List.of(mentor), true, facets)));
+
+        // when
+        MentorListResponseDto dto = mentorService.getMentorList("employment", "backend", "홍", PageRequest.of(1, 10));
+
+        // then
+        assertThat(dto.mentors()).containsExactly(mentor);
+        assertThat(dto.page()).isEqualTo(1);
+        assertThat(dto.size()).isEqualTo(1);
+        assertThat(dto.hasNext()).isTrue();
+        assertThat(dto.facets()).isEqualTo(facets);
+        verify(userRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    @DisplayName("정렬 조건이 있으면 인덱스 대신 DB로 조회")
+    void getMentorList_Sorted_UsesDatabase() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+        when(userRepository.findBy(any(Specification.class), any()))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // when
+        MentorListResponseDto dto = mentorService.getMentorList(null, null, null, pageable);
+
+        // then
+        assertThat(dto.mentors()).isEmpty();
+        assertThat(dto.facets()).isNull();
+        verifyNoInteractions(mentorIndex);
+    }
+
+    @Test
+    @DisplayName("멘토 목록 커서 조회 시 한 건 더 조회하여 다음 페이지 여부와 다음 커서를 반환")
+    void scrollMentorList_HasNext() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        User first = mentor(3L, createdAt);
+        User second = mentor(2L, createdAt);
+        User extra = mentor(1L, createdAt.minusDays(1));
+        when(userRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(first, second, extra));
+
+        // when
+        MentorScrollResponseDto dto = mentorService.scrollMentorList(null, "backend", null, null, 2);
+
+        // then
+        assertThat(dto.mentors()).extracting(MentorListResponseDto.MentorDto::mentorId).containsExactly(3L, 2L);
+        assertThat(dto.size()).isEqualTo(2);
+        assertThat(dto.hasNext()).isTrue();
+        assertThat(ScrollCursor.decode(dto.nextCursor())).isEqualTo(new ScrollCursor(createdAt, 2L));
+        verifyNoInteractions(mentorIndex);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없음")
+    void scrollMentorList_LastPage() {
+        // given
+        String cursor = new ScrollCursor(LocalDateTime.of(2024, 1, 15, 10, 30), 2L).encode();
+        when(userRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(mentor(1L, LocalDateTime.of(2024, 1, 14, 9, 0))));
+
+        // when
+        MentorScrollResponseDto dto = mentorService.scrollMentorList(null, null, null, cursor, 10);
+
+        // then
+        assertThat(dto.mentors()).hasSize(1);
+        assertThat(dto.hasNext()).isFalse();
+        assertThat(dto.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 예외 발생")
+    void scrollMentorList_InvalidSize_ThrowsException() {
+        // when
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> mentorService.scrollMentorList(null, null, null, null, ScrollCursor.MAX_SIZE + 1));
+
+        // then
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        verifyNoInteractions(userRepository);
+    }
+
+    private User mentor(Long id, LocalDateTime createdAt) {
+        User user = User.builder()
+                .name("멘토" + id)
+                .email("mentor" + id + "@knu.ac.kr")
+                .password("password")
+                .status(Status.graduate)
+                .department(Department.computer)
+                .career(Career.employment)
+                .interest(Interest.backend)
+                .mbti(Mbti.ENFP)
+                .mentor(true)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        ReflectionTestUtils.setField(user, "createdAt", createdAt);
+        return user;
     }
 
     @Test
@@ -0,0 +1,125 @@
+package com.example.knu_connect.unit.networking;
+
+import com.example.knu_connect.domain.networking.entitiy.Networking;
+import com.example.knu_connect.domain.networking.repository.NetworkingRepository;
+import com.example.knu_connect.domain.networking.service.NetworkingSearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NetworkingSearchServiceTest {
+
+    @Mock
+    private NetworkingRepository networkingRepository;
+
+    private NetworkingSearchService fullTextSearch() {
+        return new NetworkingSearchService(networkingRepository, "fulltext", 2);
+    }
+
+    private Networking networking(Long id, String title) {
+        Networking networking = Networking.builder().title(title).contents("내용").build();
+        ReflectionTestUtils.setField(networking, "id", id);
+        return networking;
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 검색은 관련도 순서를 유지하고 한 건 더 조회하여 다음 페이지 여부를 판단한다")
+    void search_fullText_keepsRankOrder() {
+        // given
+        Pageable pageable = PageRequest.of(1, 2);
+        given(networkingRepository.searchIdsByFullText("스프링", "\"스프링\"", 3, 2L))
+                .willReturn(List.of(7L, 3L, 5L));
+        // IN 조회 결과는 관련도 순서와 다를 수 있음
+        given(networkingRepository.findByIdIn(List.of(7L, 3L)))
+                .willReturn(List.of(networking(3L, "스프링 스터디"), networking(7L, "스프링 부트")));
+
+        // when
+        Slice<Networking> result = fullTextSearch().search(" 스프링 ", pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(Networking::getId).containsExactly(7L, 3L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getNumber()).isEqualTo(1);
+        verify(networkingRepository, never()).findByTitleContainingOrContentsContaining(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 검색 결과가 없으면 게시글을 조회하지 않는다")
+    void search_fullText_noMatch() {
+        // given
+        given(networkingRepository.searchIdsByFullText(anyString(), anyString(), anyInt(), anyLong()))
+                .willReturn(List.of());
+
+        // when
+        Slice<Networking> result = fullTextSearch().search("없는검색어", PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+        verify(networkingRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("구문 검색에 쓸 수 없는 큰따옴표는 제거한다")
+    void search_fullText_stripsQuotes() {
+        // given
+        given(networkingRepository.searchIdsByFullText(anyString(), anyString(), anyInt(), anyLong()))
+                .willReturn(List.of());
+
+        // when
+        fullTextSearch().search("\"백엔드\" 스터디", PageRequest.of(0, 10));
+
+        // then
+        verify(networkingRepository).searchIdsByFullText("백엔드 스터디", "\"백엔드 스터디\"", 11, 0L);
+    }
+
+    @Test
+    @DisplayName("ngram 토큰보다 짧은 키워드는 LIKE 검색을 사용한다")
+    void search_shortKeyword_fallsBackToLike() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<Networking> slice = new SliceImpl<>(List.of(networking(1L, "AI 스터디")), pageable, false);
+        given(networkingRepository.findByTitleContainingOrContentsContaining("A", "A", pageable)).willReturn(slice);
+
+        // when
+        Slice<Networking> result = fullTextSearch().search("A", pageable);
+
+        // then
+        assertThat(result).isSameAs(slice);
+        verify(networkingRepository, never()).searchIdsByFullText(any(), any(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("like 모드에서는 항상 LIKE 검색을 사용한다")
+    void search_likeMode() {
+        // given
+        NetworkingSearchService likeSearch = new NetworkingSearchService(networkingRepository, "like", 2);
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<Networking> slice = new SliceImpl<>(List.of(), pageable, false);
+        given(networkingRepository.findByTitleContainingOrContentsContaining("스프링", "스프링", pageable))
+                .willReturn(slice);
+
+        // when
+        Slice<Networking> result = likeSearch.search("스프링", pageable);
+
+        // then
+        assertThat(result).isSameAs(slice);
+        verify(networkingRepository, never()).searchIdsByFullText(any(), any(), anyInt(), anyLong());
+    }
+}
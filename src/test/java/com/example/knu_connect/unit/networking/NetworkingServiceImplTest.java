@@ -9,15 +9,18 @@ import com.example.knu_connect.domain.networking.dto.request.NetworkingUpdateReq
 import com.example.knu_connect.domain.networking.dto.response.MyNetworkingListResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.NetworkingDetailResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.NetworkingListResponseDto;
+import com.example.knu_connect.domain.networking.dto.response.NetworkingScrollResponseDto;
 import com.example.knu_connect.domain.networking.dto.response.ParticipantsResponseDto;
 import com.example.knu_connect.domain.networking.entitiy.Networking;
 import com.example.knu_connect.domain.networking.repository.NetworkingRepository;
 import com.example.knu_connect.domain.networking.service.NetWorkingServiceImpl;
+import com.example.knu_connect.domain.networking.service.NetworkingSearchService;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.entity.enums.*;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.global.exception.common.BusinessException;
 import com.example.knu_connect.global.exception.common.ErrorCode;
+import com.example.knu_connect.global.pagination.ScrollCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,14 +30,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -56,6 +65,8 @@ class NetworkingServiceImplTest {
     private ChatRoomRepository chatRoomRepository;
     @Mock
     private ChatParticipantsRepository chatParticipantsRepository;
+    @Mock
+    private NetworkingSearchService networkingSearchService;
 
     private User user;
     private ChatRoom chatRoom;
@@ -119,9 +130,10 @@ class NetworkingServiceImplTest {
             );
 
             given(chatRoomRepository.save(any(ChatRoom.class))).willReturn(chatRoom);
+            given(userRepository.getReferenceById(user.getId())).willReturn(user);
 
             // when
-            networkingService.createNetworking(user, request, null);
+            networkingService.createNetworking(user.getId(), request, null);
 
             // then
             verify(chatRoomRepository).save(any(ChatRoom.class));
@@ -144,9 +156,10 @@ class NetworkingServiceImplTest {
             );
 
             given(userRepository.findById(representativeId)).willReturn(Optional.of(mentor));
+            given(userRepository.getReferenceById(user.getId())).willReturn(user);
 
             // when
-            networkingService.createNetworking(user, request, existingChatRoomId);
+            networkingService.createNetworking(user.getId(), request, existingChatRoomId);
 
             // then
             ArgumentCaptor<ChatRoom> chatRoomCaptor = ArgumentCaptor.forClass(ChatRoom.class);
@@ -173,17 +186,33 @@ class NetworkingServiceImplTest {
         void 전체목록조회() {
             // given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Networking> page = new PageImpl<>(List.of(networking));
+            Slice<Networking> page = new SliceImpl<>(List.of(networking), pageable, false);
 
-            given(networkingRepository.findAll(pageable)).willReturn(page);
+            given(networkingRepository.findAllBy(pageable)).willReturn(page);
+            given(networkingRepository.findParticipatingIds(List.of(1L), user.getId())).willReturn(Set.of(1L));
 
             // when
-            NetworkingListResponseDto response = networkingService.getNetworkingList(user, null, pageable);
+            NetworkingListResponseDto response = networkingService.getNetworkingList(user.getId(), null, pageable);
 
             // then
             assertThat(response.boards()).hasSize(1);
             assertThat(response.boards().get(0).title()).isEqualTo("Test Title");
             assertThat(response.boards().get(0).curNumber()).isEqualTo(1);
+            assertThat(response.boards().get(0).isParticipating()).isTrue();
+        }
+
+        @Test
+        void 빈_목록은_참여여부를_조회하지_않음() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            given(networkingRepository.findAllBy(pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+            // when
+            NetworkingListResponseDto response = networkingService.getNetworkingList(user.getId(), null, pageable);
+
+            // then
+            assertThat(response.boards()).isEmpty();
+            verify(networkingRepository, never()).findParticipatingIds(any(), any());
         }
 
         @Test
@@ -193,15 +222,71 @@ class NetworkingServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<Networking> page = new PageImpl<>(List.of(networking));
 
-            given(networkingRepository.findByTitleContainingOrContentsContaining(keyword, keyword, pageable))
-                    .willReturn(page);
+            given(networkingSearchService.search(keyword, pageable)).willReturn(page);
+
+            // when
+            NetworkingListResponseDto response = networkingService.getNetworkingList(user.getId(), keyword, pageable);
+
+            // then
+            assertThat(response.boards()).hasSize(1);
+            verify(networkingSearchService).search(keyword, pageable);
+            verify(networkingRepository, never()).findAllBy(any(Pageable.class));
+        }
+
+        @Test
+        void 커서없이_첫페이지_조회() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+            ReflectionTestUtils.setField(networking, "createdAt", createdAt);
+            Networking older = Networking.builder()
+                    .title("Older Title")
+                    .contents("Older Contents")
+                    .maxNumber(5)
+                    .user(user)
+                    .chatRoom(chatRoom)
+                    .curNumber(1)
+                    .visible(true)
+                    .build();
+            setId(older, 2L);
+
+            // size + 1건 조회
+            given(networkingRepository.findLatest(PageRequest.of(0, 2))).willReturn(List.of(networking, older));
+            // 다음 페이지 확인용으로 더 조회한 게시글은 참여 여부 조회 대상에서 제외
+            given(networkingRepository.findParticipatingIds(List.of(1L), user.getId())).willReturn(Set.of());
 
             // when
-            NetworkingListResponseDto response = networkingService.getNetworkingList(user, keyword, pageable);
+            NetworkingScrollResponseDto response = networkingService.scrollNetworkingList(user.getId(), null, 1);
+
+            // then
+            assertThat(response.boards()).extracting(NetworkingListResponseDto.NetworkingBoardDto::id).containsExactly(1L);
+            assertThat(response.boards().get(0).isParticipating()).isFalse();
+            assertThat(response.hasNext()).isTrue();
+            assertThat(ScrollCursor.decode(response.nextCursor())).isEqualTo(new ScrollCursor(createdAt, 1L));
+        }
+
+        @Test
+        void 커서로_다음페이지_조회() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000);
+            String cursor = new ScrollCursor(createdAt, 5L).encode();
+            given(networkingRepository.findLatestBefore(createdAt, 5L, PageRequest.of(0, 11)))
+                    .willReturn(List.of(networking));
+
+            // when
+            NetworkingScrollResponseDto response = networkingService.scrollNetworkingList(user.getId(), cursor, 10);
 
             // then
             assertThat(response.boards()).hasSize(1);
-            verify(networkingRepository).findByTitleContainingOrContentsContaining(keyword, keyword, pageable);
+            assertThat(response.hasNext()).isFalse();
+            assertThat(response.nextCursor()).isNull();
+            verify(networkingRepository, never()).findLatest(any(Pageable.class));
+        }
+
+        @Test
+        void 잘못된_커서로_조회() {
+            assertThatThrownBy(() -> networkingService.scrollNetworkingList(user.getId(), "not-a-cursor", 10))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
         }
     }
 
@@ -215,7 +300,7 @@ class NetworkingServiceImplTest {
             given(networkingRepository.findById(networkingId)).willReturn(Optional.of(networking));
 
             // when
-            NetworkingDetailResponseDto response = networkingService.getNetworkingDetail(user, networkingId);
+            NetworkingDetailResponseDto response = networkingService.getNetworkingDetail(user.getId(), networkingId);
 
             // then
             assertThat(response.title()).isEqualTo(networking.getTitle());
@@ -230,7 +315,7 @@ class NetworkingServiceImplTest {
             given(networkingRepository.findById(networkingId)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> networkingService.getNetworkingDetail(user, networkingId))
+            assertThatThrownBy(() -> networkingService.getNetworkingDetail(user.getId(), networkingId))
                     .isInstanceOf(BusinessException.class)
                     .extracting("errorCode").isEqualTo(ErrorCode.NETWORKING_NOT_FOUND);
         }
@@ -260,7 +345,7 @@ class NetworkingServiceImplTest {
             given(userRepository.findById(newRepresentativeId)).willReturn(Optional.of(newRepresentative));
 
             // when
-            networkingService.updateNetworking(user, request, networkingId);
+            networkingService.updateNetworking(user.getId(), request, networkingId);
 
             // then
             assertThat(networking.getTitle()).isEqualTo("Updated Title");
@@ -283,7 +368,7 @@ class NetworkingServiceImplTest {
             given(networkingRepository.findById(networkingId)).willReturn(Optional.of(networking));
 
             // when & then
-            assertThatThrownBy(() -> networkingService.updateNetworking(otherUser, request, networkingId))
+            assertThatThrownBy(() -> networkingService.updateNetworking(otherUser.getId(), request, networkingId))
                     .isInstanceOf(BusinessException.class)
                     .extracting("errorCode").isEqualTo(ErrorCode.NETWORKING_FORBIDDEN);
         }
@@ -299,7 +384,7 @@ class NetworkingServiceImplTest {
             given(networkingRepository.findById(networkingId)).willReturn(Optional.of(networking));
 
             // when
-            ParticipantsResponseDto response = networkingService.getNetworkingParticipants(user, networkingId);
+            ParticipantsResponseDto response = networkingService.getNetworkingParticipants(user.getId(), networkingId);
 
             // then
             assertThat(response.participants()).hasSize(1);
@@ -315,14 +400,93 @@ class NetworkingServiceImplTest {
             Pageable pageable = PageRequest.of(0, 10);
             Page<Networking> page = new PageImpl<>(List.of(networking));
 
-            given(networkingRepository.findByUser(user, pageable)).willReturn(page);
+            given(networkingRepository.findByUser_Id(user.getId(), pageable)).willReturn(page);
 
             // when
-            MyNetworkingListResponseDto response = networkingService.getMyNetworkingList(user, pageable);
+            MyNetworkingListResponseDto response = networkingService.getMyNetworkingList(user.getId(), pageable);
 
             // then
             assertThat(response.boards()).hasSize(1);
             assertThat(response.boards().get(0).writer()).isEqualTo(user.getName());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class 네트워킹_참여_테스트 {
+
+        private User joiner;
+
+        @BeforeEach
+        void setUpJoiner() {
+            joiner = User.builder()
+                    .name("Joiner")
+                    .email("joiner@knu.ac.kr")
+                    .password("password")
+                    .status(Status.student)
+                    .department(Department.computer)
+                    .career(Career.employment)
+                    .interest(Interest.backend)
+                    .mbti(Mbti.ISTJ)
+                    .mentor(false)
+                    .build();
+            setId(joiner, 2L);
+            given(networkingRepository.findById(1L)).willReturn(Optional.of(networking));
+        }
+
+        @Test
+        void 참여_성공시_정원을_확보하고_채팅방에_추가() {
+            // given
+            given(networkingRepository.increaseCurNumber(1L)).willReturn(1);
+            given(userRepository.getReferenceById(joiner.getId())).willReturn(joiner);
+
+            // when
+            networkingService.joinNetworking(joiner.getId(), 1L);
+
+            // then
+            ArgumentCaptor<ChatParticipants> captor = ArgumentCaptor.forClass(ChatParticipants.class);
+            verify(chatParticipantsRepository).saveAndFlush(captor.capture());
+            assertThat(captor.getValue().getUserId()).isEqualTo(joiner.getId());
+            assertThat(chatRoom.hasParticipant(joiner.getId())).isTrue();
+        }
+
+        @Test
+        void 정원이_마감되면_참여자를_추가하지_않음() {
+            // given
+            given(networkingRepository.increaseCurNumber(1L)).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> networkingService.joinNetworking(joiner.getId(), 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.NETWORKING_FULL);
+            verify(chatParticipantsRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        void 이미_참여중이면_정원을_확보하지_않음() {
+            // given
+            given(chatParticipantsRepository.existsByUser_IdAndChatRoom_Id(joiner.getId(), chatRoom.getId()))
+                    .willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> networkingService.joinNetworking(joiner.getId(), 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.ALREADY_PARTICIPATED);
+            verify(networkingRepository, never()).increaseCurNumber(any());
+        }
+
+        @Test
+        void 동시에_같은_사용자가_참여하면_유니크_제약_위반을_이미_참여중으로_변환() {
+            // given
+            given(networkingRepository.increaseCurNumber(1L)).willReturn(1);
+            given(userRepository.getReferenceById(joiner.getId())).willReturn(joiner);
+            given(chatParticipantsRepository.saveAndFlush(any(ChatParticipants.class)))
+                    .willThrow(new DataIntegrityViolationException("uk_chat_participants_user_chat_room"));
+
+            // when & then
+            assertThatThrownBy(() -> networkingService.joinNetworking(joiner.getId(), 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.ALREADY_PARTICIPATED);
+            assertThat(chatRoom.hasParticipant(joiner.getId())).isFalse();
+        }
+    }
+}
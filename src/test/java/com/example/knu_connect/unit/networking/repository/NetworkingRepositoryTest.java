@@ -0,0 +1,135 @@
+package com.example.knu_connect.unit.networking.repository;
+
+import com.example.knu_connect.domain.chat.entitiy.ChatParticipants;
+import com.example.knu_connect.domain.chat.entitiy.ChatRoom;
+import com.example.knu_connect.domain.networking.entitiy.Networking;
+import com.example.knu_connect.domain.networking.repository.NetworkingRepository;
+import com.example.knu_connect.domain.user.entity.User;
+import com.example.knu_connect.domain.user.entity.enums.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class NetworkingRepositoryTest {
+
+    @Autowired
+    private NetworkingRepository networkingRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("생성일시가 같은 게시글이 있어도 커서로 이어서 조회하면 누락이나 중복 없이 최신순으로 조회한다")
+    void findLatestBefore_withSameCreatedAt() {
+        // given: 게시글 5개 중 3개는 생성일시가 같음
+        User user = saveUser();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 10, 30);
+        Networking oldest = saveNetworking(user, base.minusHours(1));
+        Networking tie1 = saveNetworking(user, base);
+        Networking tie2 = saveNetworking(user, base);
+        Networking tie3 = saveNetworking(user, base);
+        Networking newest = saveNetworking(user, base.plusHours(1));
+        em.flush();
+        em.clear();
+
+        // when: 2개씩 끝까지 조회
+        List<Long> scrolled = new ArrayList<>();
+        List<Networking> page = networkingRepository.findLatest(PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(n -> scrolled.add(n.getId()));
+            Networking last = page.get(page.size() - 1);
+            page = networkingRepository.findLatestBefore(last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+        }
+
+        // then
+        assertThat(scrolled).containsExactly(
+                newest.getId(), tie3.getId(), tie2.getId(), tie1.getId(), oldest.getId());
+    }
+
+    @Test
+    @DisplayName("목록의 게시글 중 사용자가 참여 중인 게시글 ID만 조회한다")
+    void findParticipatingIds() {
+        // given
+        User me = saveUser("me@knu.ac.kr");
+        User other = saveUser("other@knu.ac.kr");
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30);
+        Networking joined = saveNetworking(other, now);
+        Networking notJoined = saveNetworking(other, now);
+        Networking joinedButNotListed = saveNetworking(other, now);
+        saveParticipant(me, joined);
+        saveParticipant(other, joined);
+        saveParticipant(other, notJoined);
+        saveParticipant(me, joinedButNotListed);
+        em.flush();
+        em.clear();
+
+        // when
+        Set<Long> ids = networkingRepository.findParticipatingIds(
+                List.of(joined.getId(), notJoined.getId()), me.getId());
+
+        // then
+        assertThat(ids).containsExactly(joined.getId());
+    }
+
+    private void saveParticipant(User user, Networking networking) {
+        em.persist(ChatParticipants.builder()
+                .user(user)
+                .chatRoom(networking.getChatRoom())
+                .lastReadMessageId(0L)
+                .build());
+    }
+
+    private User saveUser() {
+        return saveUser("test@knu.ac.kr");
+    }
+
+    private User saveUser(String email) {
+        User user = User.builder()
+                .name("홍길동")
+                .email(email)
+                .password("1234")
+                .status(Status.student)
+                .department(Department.computer)
+                .career(Career.employment)
+                .interest(Interest.backend)
+                .mbti(Mbti.ISFP)
+                .mentor(false)
+                .build();
+        em.persist(user);
+        return user;
+    }
+
+    private Networking saveNetworking(User user, LocalDateTime createdAt) {
+        ChatRoom chatRoom = ChatRoom.create();
+        em.persist(chatRoom);
+        Networking networking = Networking.builder()
+                .user(user)
+                .chatRoom(chatRoom)
+                .title("스터디 모집")
+                .contents("내용")
+                .curNumber(1)
+                .maxNumber(5)
+                .visible(true)
+                .build();
+        em.persist(networking);
+        em.flush();
+
+        // 생성일시는 감사(Auditing)로 채워지므로 저장 후 직접 변경
+        em.createNativeQuery("UPDATE networking SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", networking.getId())
+                .executeUpdate();
+        return networking;
+    }
+}
@@ -1,12 +1,20 @@
 package com.example.knu_connect.unit.user.repository;
 
+import com.example.knu_connect.domain.mentor.specification.MentorSpecification;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.entity.enums.*;
 import com.example.knu_connect.domain.user.repository.UserRepository;
+import com.example.knu_connect.global.pagination.ScrollCursor;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,6 +24,9 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager em;
+
     @Test
     @DisplayName("이메일로 존재 여부를 확인할 수 있다")
     void existsByEmail_ReturnsTrue() {
@@ -52,4 +63,51 @@ class UserRepositoryTest {
         assertThat(exists).isFalse();
 
     }
+
+    @Test
+    @DisplayName("멘토 키셋 조회는 커서보다 이전에 가입한 멘토만 조회하고 가입일시가 같으면 ID로 구분한다")
+    void findMentorsBeforeCursor() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 10, 30);
+        User older = saveUser("older@knu.ac.kr", true, base.minusDays(1));
+        User tie1 = saveUser("tie1@knu.ac.kr", true, base);
+        User tie2 = saveUser("tie2@knu.ac.kr", true, base);
+        saveUser("mentee@knu.ac.kr", false, base.minusDays(2));
+        em.clear();
+
+        Specification<User> spec = Specification.allOf(
+                MentorSpecification.isMentor(),
+                MentorSpecification.before(new ScrollCursor(base, tie2.getId()))
+        );
+
+        // when
+        List<User> result = userRepository.findBy(spec, query -> query
+                .sortBy(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+                .limit(10)
+                .all());
+
+        // then
+        assertThat(result).extracting(User::getId).containsExactly(tie1.getId(), older.getId());
+    }
+
+    private User saveUser(String email, boolean mentor, LocalDateTime createdAt) {
+        User user = userRepository.saveAndFlush(User.builder()
+                .name("홍길동")
+                .email(email)
+                .password("1234")
+                .status(Status.graduate)
+                .department(Department.computer)
+                .career(Career.employment)
+                .interest(Interest.backend)
+                .mbti(Mbti.ISFP)
+                .mentor(mentor)
+                .build());
+
+        // 가입일시는 감사(Auditing)로 채워지므로 저장 후 직접 변경
+        em.createNativeQuery("UPDATE users SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", user.getId())
+                .executeUpdate();
+        return user;
+    }
 }
@@ -4,6 +4,7 @@ import com.example.knu_connect.domain.user.dto.request.UserUpdateRequestDto;
 import com.example.knu_connect.domain.user.dto.response.UserInfoResponseDto;
 import com.example.knu_connect.domain.user.entity.User;
 import com.example.knu_connect.domain.user.entity.enums.*;
+import com.example.knu_connect.domain.user.event.UserPrincipalChangedEvent;
 import com.example.knu_connect.domain.user.repository.UserRepository;
 import com.example.knu_connect.domain.user.service.UserService;
 import com.example.knu_connect.global.exception.common.BusinessException;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -25,6 +27,7 @@ import static org.mockito.Mockito.*;
 class UserServiceTest {
 
     @Mock UserRepository userRepository;
+    @Mock ApplicationEventPublisher eventPublisher;
     @InjectMocks UserService userService;
 
     @Test
@@ -124,6 +127,8 @@ class UserServiceTest {
         assertThat(user.getCareer()).isEqualTo(Career.employment);
         assertThat(user.getStatus()).isEqualTo(Status.student);
         assertThat(user.getInterest()).isEqualTo(Interest.backend);
+        // 캐시된 인증 주체 무효화 이벤트 발행
+        verify(eventPublisher).publishEvent(new UserPrincipalChangedEvent("test@knu.ac.kr"));
     }
 
     @Test